@@ -0,0 +1,347 @@
+#!/usr/bin/env python3
+"""
+Registration-day load harness
+Logs in N virtual students against a locally started API and drives a mix of
+catalog reads, enrollment reads, enrollments and unenrollments for a fixed duration.
+
+Reports throughput, latency percentiles per operation and a breakdown of every
+non-2xx response (409 section full, 400 not eligible, ...). SQLITE_BUSY errors are
+hidden behind a generic 500 by the API, so they are counted from the application log.
+
+Only the Python standard library is used.
+"""
+
+import argparse
+import gzip
+import http.client
+import json
+import os
+import random
+import sqlite3
+import threading
+import time
+from collections import Counter, defaultdict
+from urllib.parse import urlparse
+
+from scale_database import DEFAULT_TARGET
+
+OPERATIONS = ("courses", "enrollments", "enroll", "unenroll")
+DEFAULT_MIX = "courses=40,enrollments=30,enroll=20,unenroll=10"
+
+
+class Client:
+    """One keep-alive HTTP connection, like a browser tab"""
+
+    def __init__(self, base_url, timeout):
+        url = urlparse(base_url)
+        self.host = url.hostname
+        self.port = url.port or 80
+        self.timeout = timeout
+        self.connection = None
+
+    def request(self, method, path, body=None, token=None, headers=None):
+        request_headers = {"Accept": "application/json"}
+        if body is not None:
+            request_headers["Content-Type"] = "application/json"
+        if token:
+            request_headers["Authorization"] = f"Bearer {token}"
+        if headers:
+            request_headers.update(headers)
+        payload = json.dumps(body).encode() if body is not None else None
+
+        for attempt in range(2):
+            if self.connection is None:
+                self.connection = http.client.HTTPConnection(self.host, self.port, timeout=self.timeout)
+            try:
+                self.connection.request(method, path, body=payload, headers=request_headers)
+                response = self.connection.getresponse()
+                raw = response.read()
+                if response.getheader("Content-Encoding") == "gzip":
+                    raw = gzip.decompress(raw)
+                return response.status, raw, response.getheader("ETag")
+            except (http.client.HTTPException, OSError):
+                self.connection.close()
+                self.connection = None
+                if attempt == 1:
+                    raise
+        raise AssertionError("unreachable")
+
+
+class Stats:
+    """Latencies and outcomes per operation, shared by all workers"""
+
+    def __init__(self):
+        self.lock = threading.Lock()
+        self.latencies = defaultdict(list)
+        self.outcomes = Counter()
+
+    def record(self, operation, status, latency_ms, error=None):
+        with self.lock:
+            self.latencies[operation].append(latency_ms)
+            self.outcomes[(operation, status, error)] += 1
+
+
+class VirtualStudent:
+
+    def __init__(self, student_id, email, grade_level, enrolled_course_ids):
+        self.id = student_id
+        self.email = email
+        self.grade_level = grade_level
+        self.enrolled_course_ids = set(enrolled_course_ids)
+        self.token = None
+        self.etags = {}
+
+
+def load_students(db_path, count, rng):
+    conn = sqlite3.connect(f"file:{db_path}?mode=ro", uri=True)
+    rows = conn.execute("SELECT id, email, grade_level FROM students WHERE status = 'active'").fetchall()
+    enrolled = defaultdict(list)
+    for student_id, course_id in conn.execute("""
+        SELECT e.student_id, e.course_id
+        FROM student_enrollments e JOIN semesters s ON s.id = e.semester_id AND s.is_active = 1
+    """):
+        enrolled[student_id].append(course_id)
+    conn.close()
+
+    if count > len(rows):
+        raise SystemExit(f"Only {len(rows)} students in {db_path}; scale the database or lower --students")
+    return [
+        VirtualStudent(student_id, email, grade_level, enrolled[student_id])
+        for student_id, email, grade_level in rng.sample(rows, count)
+    ]
+
+
+def error_of(status, raw):
+    if status < 400:
+        return None
+    try:
+        return json.loads(raw).get("error")
+    except (ValueError, AttributeError):
+        return None
+
+
+def timed(stats, client, operation, method, path, body=None, token=None, headers=None):
+    started = time.perf_counter()
+    try:
+        status, raw, etag = client.request(method, path, body=body, token=token, headers=headers)
+    except (http.client.HTTPException, OSError) as ex:
+        stats.record(operation, "io-error", (time.perf_counter() - started) * 1000.0, type(ex).__name__)
+        return None, None, None
+    stats.record(operation, status, (time.perf_counter() - started) * 1000.0, error_of(status, raw))
+    return status, raw, etag
+
+
+def login_all(students, base_url, timeout, stats, concurrency):
+    """Log every virtual student in through POST /api/login before the measured run"""
+    pending = list(students)
+    lock = threading.Lock()
+
+    def work():
+        client = Client(base_url, timeout)
+        while True:
+            with lock:
+                if not pending:
+                    return
+                student = pending.pop()
+            status, raw, _ = timed(stats, client, "login", "POST", "/api/login", body={"email": student.email})
+            if status == 200:
+                student.token = json.loads(raw)["token"]
+
+    run_threads(work, concurrency)
+    return [student for student in students if student.token]
+
+
+def load_catalog(base_url, timeout, token):
+    """Courses of the active semester with their section ids and grade range"""
+    status, raw, _ = Client(base_url, timeout).request(
+        "GET", "/api/courses", token=token, headers={"Accept-Encoding": "gzip"})
+    if status != 200:
+        raise SystemExit(f"GET /api/courses returned {status}")
+    catalog = []
+    for course in json.loads(raw)["courses"]:
+        section_ids = [section["id"] for section in course.get("availableSections") or []]
+        grade_level = course.get("gradeLevel") or {}
+        if section_ids:
+            catalog.append((course["id"], grade_level.get("min") or 9, grade_level.get("max") or 12, section_ids))
+    return catalog
+
+
+def drive(student, client, stats, catalog, operation, rng):
+    if operation == "unenroll" and not student.enrolled_course_ids:
+        operation = "enroll"
+
+    if operation in ("courses", "enrollments"):
+        path = "/api/courses" if operation == "courses" else "/api/me/enrollments"
+        headers = {"Accept-Encoding": "gzip"}
+        if operation in student.etags:
+            headers["If-None-Match"] = student.etags[operation]
+        status, _, etag = timed(stats, client, operation, "GET", path, token=student.token, headers=headers)
+        if status == 200 and etag:
+            student.etags[operation] = etag
+        return
+
+    if operation == "enroll":
+        candidates = [
+            entry for entry in catalog
+            if entry[1] <= student.grade_level <= entry[2] and entry[0] not in student.enrolled_course_ids
+        ]
+        if not candidates:
+            return
+        course_id, _, _, section_ids = rng.choice(candidates)
+        status, _, _ = timed(stats, client, "enroll", "POST", "/api/me/enrollments", token=student.token,
+                             body={"courseId": course_id, "sectionId": rng.choice(section_ids)})
+        if status == 200:
+            student.enrolled_course_ids.add(course_id)
+            student.etags.pop("enrollments", None)
+        return
+
+    course_id = rng.choice(sorted(student.enrolled_course_ids))
+    status, _, _ = timed(stats, client, "unenroll", "DELETE", f"/api/me/enrollments?courseId={course_id}",
+                         token=student.token)
+    if status in (200, 404):
+        student.enrolled_course_ids.discard(course_id)
+        student.etags.pop("enrollments", None)
+
+
+def run_load(students, catalog, mix, args, stats):
+    operations = list(mix.keys())
+    weights = list(mix.values())
+    deadline = time.monotonic() + args.duration
+    think_seconds = args.think_ms / 1000.0
+
+    def work(worker_index):
+        # Every virtual student belongs to exactly one worker, so its state is never shared
+        own = students[worker_index::args.concurrency]
+        if not own:
+            return
+        rng = random.Random(args.seed + worker_index)
+        client = Client(args.base_url, args.timeout)
+        while time.monotonic() < deadline:
+            student = rng.choice(own)
+            drive(student, client, stats, catalog, rng.choices(operations, weights)[0], rng)
+            if think_seconds:
+                time.sleep(think_seconds)
+
+    run_threads(work, args.concurrency, indexed=True)
+
+
+def run_threads(target, count, indexed=False):
+    threads = [
+        threading.Thread(target=target, args=(index,) if indexed else (), daemon=True)
+        for index in range(count)
+    ]
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+
+
+def percentile(sorted_values, fraction):
+    if not sorted_values:
+        return 0.0
+    index = min(len(sorted_values) - 1, max(0, int(round(fraction * len(sorted_values) + 0.5)) - 1))
+    return sorted_values[index]
+
+
+def count_log_matches(path, offset, needle):
+    if not path or not os.path.exists(path):
+        return None
+    with open(path, "rb") as log:
+        log.seek(offset)
+        return sum(1 for line in log if needle in line)
+
+
+def log_size(path):
+    return os.path.getsize(path) if path and os.path.exists(path) else 0
+
+
+def parse_mix(value):
+    mix = {}
+    for part in value.split(","):
+        name, weight = part.split("=")
+        if name not in OPERATIONS:
+            raise SystemExit(f"Unknown operation '{name}' in --mix, expected one of {', '.join(OPERATIONS)}")
+        mix[name] = float(weight)
+    return mix
+
+
+def report(stats, elapsed, sqlite_busy, json_out, settings):
+    summary = {"settings": settings, "elapsedSeconds": round(elapsed, 2), "operations": {}, "errors": []}
+    total = 0
+    print()
+    print(f"{'operation':<12}{'count':>9}{'ops/s':>10}{'p50 ms':>10}{'p90 ms':>10}{'p99 ms':>10}{'max ms':>10}")
+    for operation in ("login",) + OPERATIONS:
+        values = sorted(stats.latencies.get(operation, []))
+        if not values:
+            continue
+        row = {
+            "count": len(values),
+            "throughput": round(len(values) / elapsed, 1) if operation != "login" else None,
+            "p50": round(percentile(values, 0.50), 2),
+            "p90": round(percentile(values, 0.90), 2),
+            "p99": round(percentile(values, 0.99), 2),
+            "max": round(values[-1], 2),
+        }
+        summary["operations"][operation] = row
+        if operation != "login":
+            total += len(values)
+        print(f"{operation:<12}{row['count']:>9}{row['throughput'] or '-':>10}"
+              f"{row['p50']:>10}{row['p90']:>10}{row['p99']:>10}{row['max']:>10}")
+    summary["throughput"] = round(total / elapsed, 1)
+    print(f"\nTotal: {total} requests in {elapsed:.1f}s = {summary['throughput']} req/s")
+
+    print("\nResponses by status:")
+    for (operation, status, error), count in sorted(stats.outcomes.items(), key=lambda item: (item[0][0], str(item[0][1]))):
+        print(f"  {operation:<12}{status!s:>9}  {count:>8}  {error or ''}")
+        if status == "io-error" or (isinstance(status, int) and status >= 400):
+            summary["errors"].append({"operation": operation, "status": status, "error": error, "count": count})
+
+    summary["sqliteBusy"] = sqlite_busy
+    print(f"\nSQLITE_BUSY in application log: {'n/a (pass --app-log)' if sqlite_busy is None else sqlite_busy}")
+
+    if json_out:
+        with open(json_out, "w") as out:
+            json.dump(summary, out, indent=2)
+        print(f"Summary written to {json_out}")
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Registration-day load harness for the Maplewood API")
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--db", default=DEFAULT_TARGET,
+                        help="database the app runs on, used to pick student emails")
+    parser.add_argument("--students", type=int, default=200, help="virtual students to log in")
+    parser.add_argument("--concurrency", type=int, default=32, help="concurrent connections")
+    parser.add_argument("--duration", type=float, default=60.0, help="measured run length in seconds")
+    parser.add_argument("--think-ms", type=float, default=0.0, help="pause between requests of a worker")
+    parser.add_argument("--mix", default=DEFAULT_MIX, help="operation weights")
+    parser.add_argument("--timeout", type=float, default=30.0, help="request timeout in seconds")
+    parser.add_argument("--app-log", help="application log to scan for SQLITE_BUSY")
+    parser.add_argument("--json-out", help="write the summary as JSON, for comparing runs")
+    parser.add_argument("--seed", type=int, default=42)
+    args = parser.parse_args()
+
+    rng = random.Random(args.seed)
+    mix = parse_mix(args.mix)
+    stats = Stats()
+
+    students = load_students(args.db, args.students, rng)
+    print(f"🔑 Logging in {len(students)} virtual students...")
+    students = login_all(students, args.base_url, args.timeout, stats, args.concurrency)
+    if not students:
+        raise SystemExit("No student could log in; is the app running on the same database?")
+    catalog = load_catalog(args.base_url, args.timeout, students[0].token)
+    print(f"📚 Catalog: {len(catalog)} courses with sections")
+
+    print(f"🚀 Driving {args.mix} with {args.concurrency} connections for {args.duration:.0f}s...")
+    log_offset = log_size(args.app_log)
+    started = time.monotonic()
+    run_load(students, catalog, mix, args, stats)
+    elapsed = time.monotonic() - started
+
+    settings = {key: value for key, value in vars(args).items() if key not in ("json_out", "app_log")}
+    report(stats, elapsed, count_log_matches(args.app_log, log_offset, b"SQLITE_BUSY"), args.json_out, settings)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,150 @@
+#!/usr/bin/env python3
+"""
+Registration-day database scaler
+Clones maplewood_school.sqlite and grows it for load testing:
+extra students (with generated course history) and extra sections in the active semester.
+
+Student and history generation reuse populate_database.py, so the synthetic
+population follows the same grade, prerequisite and pass-rate rules.
+"""
+
+import argparse
+import os
+import random
+import sqlite3
+import sys
+import time
+
+RESOURCES_DIR = os.path.join(os.path.dirname(os.path.abspath(__file__)), "..", "src", "main", "resources")
+sys.path.insert(0, RESOURCES_DIR)
+
+import populate_database  # noqa: E402
+
+DEFAULT_SOURCE = os.path.join(RESOURCES_DIR, "maplewood_school.sqlite")
+DEFAULT_TARGET = "/tmp/maplewood_registration_day.sqlite"
+
+
+def clone_database(source, target):
+    """Copy the source database through the backup API so pending WAL content is included"""
+    for suffix in ("", "-wal", "-shm"):
+        if os.path.exists(target + suffix):
+            os.remove(target + suffix)
+
+    src = sqlite3.connect(f"file:{source}?mode=ro", uri=True)
+    dst = sqlite3.connect(target)
+    src.backup(dst)
+    src.close()
+    return dst
+
+
+def add_students(conn, per_grade):
+    """Add per_grade students to every grade level and generate their course history"""
+    if per_grade <= 0:
+        return 0
+
+    first_new_id = conn.execute("SELECT COALESCE(MAX(id), 0) + 1 FROM students").fetchone()[0]
+    populate_database.populate_students(conn, per_grade=per_grade, batch=f"lt{int(time.time())}")
+    populate_database.populate_student_course_history(conn, min_student_id=first_new_id)
+    return per_grade * 4
+
+
+def add_sections(conn, factor):
+    """Multiply active-semester sections by factor
+
+    Copies keep the course, capacity and meeting times of the original section and get
+    another teacher of the same specialization and another classroom of the same room type,
+    so they behave like the parallel sections a school opens for popular courses.
+    """
+    if factor <= 1:
+        return 0
+
+    sections = conn.execute("""
+        SELECT cs.id, cs.course_id, cs.semester_id, cs.teacher_id, cs.classroom_id, cs.capacity,
+               t.specialization_id, cl.room_type_id
+        FROM course_sections cs
+        JOIN semesters s ON s.id = cs.semester_id AND s.is_active = 1
+        JOIN teachers t ON t.id = cs.teacher_id
+        JOIN classrooms cl ON cl.id = cs.classroom_id
+        ORDER BY cs.id
+    """).fetchall()
+
+    teachers_by_spec = {}
+    for teacher_id, specialization_id in conn.execute("SELECT id, specialization_id FROM teachers ORDER BY id"):
+        teachers_by_spec.setdefault(specialization_id, []).append(teacher_id)
+    classrooms_by_type = {}
+    for classroom_id, room_type_id in conn.execute("SELECT id, room_type_id FROM classrooms ORDER BY id"):
+        classrooms_by_type.setdefault(room_type_id, []).append(classroom_id)
+
+    used = {
+        (course_id, semester_id, teacher_id, classroom_id)
+        for course_id, semester_id, teacher_id, classroom_id in conn.execute(
+            "SELECT course_id, semester_id, teacher_id, classroom_id FROM course_sections"
+        )
+    }
+
+    created = 0
+    for section_id, course_id, semester_id, _, _, capacity, specialization_id, room_type_id in sections:
+        meetings = conn.execute(
+            "SELECT day_of_week, start_time, end_time FROM course_section_meeting_times WHERE course_section_id = ?",
+            (section_id,)
+        ).fetchall()
+        candidates = [
+            (teacher_id, classroom_id)
+            for teacher_id in teachers_by_spec.get(specialization_id, [])
+            for classroom_id in classrooms_by_type.get(room_type_id, [])
+            if (course_id, semester_id, teacher_id, classroom_id) not in used
+        ]
+        random.shuffle(candidates)
+
+        for teacher_id, classroom_id in candidates[:factor - 1]:
+            used.add((course_id, semester_id, teacher_id, classroom_id))
+            cursor = conn.execute(
+                """INSERT INTO course_sections
+                   (course_id, semester_id, teacher_id, classroom_id, capacity, enrolled_count)
+                   VALUES (?, ?, ?, ?, ?, 0)""",
+                (course_id, semester_id, teacher_id, classroom_id, capacity)
+            )
+            conn.executemany(
+                """INSERT INTO course_section_meeting_times
+                   (course_section_id, day_of_week, start_time, end_time)
+                   VALUES (?, ?, ?, ?)""",
+                [(cursor.lastrowid, day, start, end) for day, start, end in meetings]
+            )
+            created += 1
+
+    print(f"✓ Added {created} sections to the active semester ({len(sections)} originally)")
+    return created
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Clone and scale the Maplewood database for load tests")
+    parser.add_argument("--source", default=DEFAULT_SOURCE, help="database to clone")
+    parser.add_argument("--target", default=DEFAULT_TARGET, help="scaled database to write")
+    parser.add_argument("--students-per-grade", type=int, default=900,
+                        help="additional students per grade level (4 grades)")
+    parser.add_argument("--section-factor", type=int, default=3,
+                        help="sections per original active-semester section")
+    parser.add_argument("--seed", type=int, default=42, help="random seed, for repeatable populations")
+    args = parser.parse_args()
+
+    random.seed(args.seed)
+
+    print(f"🏫 Scaling {args.source} -> {args.target}")
+    conn = clone_database(args.source, args.target)
+    conn.execute("PRAGMA foreign_keys = ON")
+    add_students(conn, args.students_per_grade)
+    add_sections(conn, args.section_factor)
+    conn.commit()
+
+    students = conn.execute("SELECT COUNT(*) FROM students").fetchone()[0]
+    history = conn.execute("SELECT COUNT(*) FROM student_course_history").fetchone()[0]
+    sections = conn.execute("""
+        SELECT COUNT(*) FROM course_sections cs JOIN semesters s ON s.id = cs.semester_id AND s.is_active = 1
+    """).fetchone()[0]
+    conn.close()
+
+    print(f"✅ {args.target}: {students} students, {history} history records, {sections} active-semester sections")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,57 @@
+package com.maplewood.benchmark;
+
+import com.maplewood.infrastructure.persistence.adapter.CourseSectionRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache key built on every batched section lookup (CourseSectionRepositoryAdapter.buildBatchKey).
+ * Ids arrive unsorted with a few duplicates, like the course ids collected from a catalog page.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchKeyBenchmark {
+
+    private static final int SEMESTER_ID = BenchmarkFixtures.ACTIVE_SEMESTER_ID;
+
+    @Param({"1", "10", "100"})
+    public int courseIdCount;
+
+    private List<Integer> courseIds;
+
+    @Setup
+    public void setUp() {
+        courseIds = new ArrayList<>(courseIdCount + courseIdCount / 10);
+        for (int i = 0; i < courseIdCount; i++) {
+            courseIds.add(1 + i * 3);
+        }
+        for (int i = 0; i < courseIdCount / 10; i++) {
+            courseIds.add(courseIds.get(i));
+        }
+        Collections.shuffle(courseIds, new Random(42));
+    }
+
+    @Benchmark
+    public String buildBatchKey() {
+        return CourseSectionRepositoryAdapter.buildBatchKey(courseIds, SEMESTER_ID);
+    }
+}
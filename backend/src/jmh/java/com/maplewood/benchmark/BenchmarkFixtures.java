@@ -0,0 +1,111 @@
+package com.maplewood.benchmark;
+
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.model.CourseType;
+import com.maplewood.domain.course.model.SemesterOrder;
+import com.maplewood.domain.coursehistory.model.CourseHistory;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.model.CourseSection.MeetingTime;
+import com.maplewood.domain.coursesection.model.DayOfWeek;
+import com.maplewood.domain.coursesection.model.WeeklyOccupancy;
+import com.maplewood.domain.enrollment.model.Enrollment;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.student.model.Student;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builders for the in-memory domain objects used by the benchmarks.
+ * Shapes follow the seeded database: one-hour meetings, at most one meeting per day per section.
+ */
+final class BenchmarkFixtures {
+
+    static final int ACTIVE_SEMESTER_ID = 7;
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static Semester activeSemester() {
+        return new Semester(ACTIVE_SEMESTER_ID, "Spring", 2025, 2, "2025-01-13", "2025-05-30", true, Instant.EPOCH);
+    }
+
+    static Student student(int gradeLevel) {
+        return new Student(1, "Ada", "Lovelace", "ada@maplewood.edu", gradeLevel, 2022, 2026, "active", Instant.EPOCH);
+    }
+
+    static Course course(int id, Integer prerequisiteId) {
+        return new Course(
+                id,
+                "BM" + id,
+                "Benchmark Course " + id,
+                "Course used by the JMH benchmarks",
+                3.0,
+                4,
+                1,
+                prerequisiteId,
+                CourseType.CORE,
+                9,
+                12,
+                SemesterOrder.SPRING,
+                Instant.EPOCH
+        );
+    }
+
+    /**
+     * Passed history entries for unrelated courses, followed by the given course ids.
+     * Trailing ids land at the end so rule lookups have to scan the whole history.
+     */
+    static List<CourseHistory> passedHistory(int unrelatedEntries, Integer... trailingCourseIds) {
+        List<CourseHistory> history = new ArrayList<>(unrelatedEntries + trailingCourseIds.length);
+        for (int i = 0; i < unrelatedEntries; i++) {
+            history.add(new CourseHistory(i, 1, 10_000 + i, null, 1, "passed", Instant.EPOCH));
+        }
+        for (Integer courseId : trailingCourseIds) {
+            history.add(new CourseHistory(unrelatedEntries + courseId, 1, courseId, null, 1, "passed", Instant.EPOCH));
+        }
+        return history;
+    }
+
+    /**
+     * One-hour meetings starting at the given hour on the first {@code meetingCount} weekdays,
+     * wrapping to the next hour once every weekday has a meeting.
+     */
+    static List<MeetingTime> meetings(int meetingCount, int startHour) {
+        List<MeetingTime> meetingTimes = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount; i++) {
+            int hour = startHour + i / DAYS.length;
+            meetingTimes.add(new MeetingTime(DAYS[i % DAYS.length], hhmm(hour, 0), hhmm(hour, 50)));
+        }
+        return meetingTimes;
+    }
+
+    static CourseSection section(int id, int courseId, List<MeetingTime> meetingTimes, boolean precomputeOccupancy) {
+        return CourseSection.builder()
+                .id(id)
+                .courseId(courseId)
+                .semesterId(ACTIVE_SEMESTER_ID)
+                .teacherId(id % 10)
+                .classroomId(id % 20)
+                .capacity(10)
+                .enrolledCount(id % 10)
+                .meetingTimes(meetingTimes)
+                .occupancy(precomputeOccupancy ? WeeklyOccupancy.of(meetingTimes) : null)
+                .build();
+    }
+
+    static List<Enrollment> enrollments(List<CourseSection> sections) {
+        List<Enrollment> enrollments = new ArrayList<>(sections.size());
+        for (CourseSection section : sections) {
+            enrollments.add(new Enrollment(section.getId(), 1, section.getCourseId(), section.getId(), ACTIVE_SEMESTER_ID, Instant.EPOCH));
+        }
+        return enrollments;
+    }
+
+    private static String hhmm(int hour, int minute) {
+        return String.format("%02d:%02d", hour, minute);
+    }
+}
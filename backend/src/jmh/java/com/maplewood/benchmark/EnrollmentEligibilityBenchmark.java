@@ -0,0 +1,140 @@
+package com.maplewood.benchmark;
+
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.coursehistory.model.CourseHistory;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.enrollment.model.EligibilityResult;
+import com.maplewood.domain.enrollment.model.Enrollment;
+import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.student.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnrollmentEligibilityService.canEnroll for an eligible student, the path every enrollment request takes.
+ * History grows with {@code historySize} and every section carries {@code meetingTimes} meetings;
+ * the prerequisite sits at the end of the history so the rule scans all of it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnrollmentEligibilityBenchmark {
+
+    private static final int TARGET_COURSE_ID = 1_000;
+    private static final int PREREQUISITE_COURSE_ID = 999;
+    private static final int ENROLLED_SECTIONS = 4;
+
+    @Param({"0", "20", "80"})
+    public int historySize;
+
+    @Param({"1", "3", "5"})
+    public int meetingTimes;
+
+    private final EnrollmentEligibilityService service = new EnrollmentEligibilityService();
+
+    private Student student;
+    private Course course;
+    private Semester activeSemester;
+    private List<CourseHistory> courseHistory;
+    private CourseSection targetSection;
+    private CourseSection targetSectionWithoutOccupancy;
+    private List<CourseSection> enrolledSections;
+    private List<CourseSection> enrolledSectionsWithoutOccupancy;
+    private List<Enrollment> enrollments;
+    private EligibilityResult result;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.student(11);
+        course = BenchmarkFixtures.course(TARGET_COURSE_ID, PREREQUISITE_COURSE_ID);
+        activeSemester = BenchmarkFixtures.activeSemester();
+        courseHistory = BenchmarkFixtures.passedHistory(historySize, PREREQUISITE_COURSE_ID);
+
+        // Enrolled sections take the morning hours, the target the afternoon: no conflict
+        enrolledSections = new ArrayList<>(ENROLLED_SECTIONS);
+        enrolledSectionsWithoutOccupancy = new ArrayList<>(ENROLLED_SECTIONS);
+        for (int i = 0; i < ENROLLED_SECTIONS; i++) {
+            int startHour = 8 + i * 2;
+            enrolledSections.add(BenchmarkFixtures.section(
+                    i + 1, 100 + i, BenchmarkFixtures.meetings(meetingTimes, startHour), true));
+            enrolledSectionsWithoutOccupancy.add(BenchmarkFixtures.section(
+                    i + 1, 100 + i, BenchmarkFixtures.meetings(meetingTimes, startHour), false));
+        }
+        enrollments = BenchmarkFixtures.enrollments(enrolledSections);
+        targetSection = BenchmarkFixtures.section(
+                50, TARGET_COURSE_ID, BenchmarkFixtures.meetings(meetingTimes, 16), true);
+        targetSectionWithoutOccupancy = BenchmarkFixtures.section(
+                50, TARGET_COURSE_ID, BenchmarkFixtures.meetings(meetingTimes, 16), false);
+        result = new EligibilityResult();
+    }
+
+    @Benchmark
+    public boolean canEnroll() {
+        return service.canEnroll(
+                student,
+                course,
+                targetSection,
+                activeSemester,
+                enrollments,
+                courseHistory,
+                enrolledSections,
+                null,
+                12.0
+        );
+    }
+
+    /**
+     * Sections built outside the repository adapter have no precomputed occupancy,
+     * so the bitmaps are rebuilt from meeting times on every call.
+     */
+    @Benchmark
+    public boolean canEnrollWithoutPrecomputedOccupancy() {
+        return service.canEnroll(
+                student,
+                course,
+                targetSectionWithoutOccupancy,
+                activeSemester,
+                enrollments,
+                courseHistory,
+                enrolledSectionsWithoutOccupancy,
+                null,
+                12.0
+        );
+    }
+
+    /**
+     * The batch eligibility path: same rules, reused result holder and no exception on failure.
+     */
+    @Benchmark
+    public EligibilityResult evaluateWithReusedResult() {
+        return service.evaluate(
+                student,
+                course,
+                targetSection,
+                activeSemester,
+                enrollments,
+                courseHistory,
+                enrolledSections,
+                null,
+                12.0,
+                result
+        );
+    }
+}
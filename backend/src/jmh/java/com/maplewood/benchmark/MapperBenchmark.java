@@ -0,0 +1,80 @@
+package com.maplewood.benchmark;
+
+import com.maplewood.application.course.dto.CourseDTO;
+import com.maplewood.application.course.mapper.CourseMapper;
+import com.maplewood.application.course.mapper.CourseMapperImpl;
+import com.maplewood.application.coursesection.dto.CourseSectionDTO;
+import com.maplewood.application.coursesection.mapper.CourseSectionMapper;
+import com.maplewood.application.coursesection.mapper.CourseSectionMapperImpl;
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.teacher.model.Teacher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers used to build every course response.
+ * {@code sectionCount} sections (three meetings each) are mapped with teacher enrichment,
+ * and one teacher id is missing from the map to cover the "Unknown" fallback.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private static final int TEACHERS = 10;
+
+    @Param({"1", "8", "32"})
+    public int sectionCount;
+
+    private final CourseMapper courseMapper = new CourseMapperImpl();
+    private final CourseSectionMapper courseSectionMapper = new CourseSectionMapperImpl();
+
+    private Course course;
+    private List<CourseSection> sections;
+    private Map<Integer, Teacher> teachersById;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkFixtures.course(1_000, 999);
+
+        sections = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            sections.add(BenchmarkFixtures.section(i + 1, 1_000, BenchmarkFixtures.meetings(3, 8 + i % 8), true));
+        }
+
+        teachersById = new HashMap<>();
+        for (int id = 1; id < TEACHERS; id++) {
+            teachersById.put(id, new Teacher(id, "Teacher", "No" + id, 1, "t" + id + "@maplewood.edu", 6, Instant.EPOCH));
+        }
+    }
+
+    @Benchmark
+    public CourseDTO courseToDTO() {
+        return courseMapper.toDTO(course);
+    }
+
+    @Benchmark
+    public List<CourseSectionDTO> sectionsToDTOList() {
+        return courseSectionMapper.toDTOList(sections, teachersById);
+    }
+}
@@ -0,0 +1,126 @@
+package com.maplewood.benchmark;
+
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.model.CourseSection.MeetingTime;
+import com.maplewood.domain.coursesection.model.WeeklyOccupancy;
+import com.maplewood.domain.enrollment.model.EligibilityResult;
+import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.student.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worst cases of the schedule conflict rule (EnrollmentEligibilityService.hasScheduleOverlap).
+ * Every section meets on all five weekdays and all other rules pass, so the differences between
+ * benchmarks come from the overlap scan: no conflict at all, or a conflict only with the last section.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleOverlapBenchmark {
+
+    private static final int MEETINGS_PER_SECTION = 5;
+    private static final int FIRST_HOUR = 7;
+
+    @Param({"4", "16"})
+    public int enrolledSections;
+
+    private final EnrollmentEligibilityService service = new EnrollmentEligibilityService();
+
+    private Student student;
+    private Course course;
+    private Semester activeSemester;
+    private List<CourseSection> sections;
+    private List<CourseSection> sectionsWithoutOccupancy;
+    private CourseSection freeSlotSection;
+    private CourseSection freeSlotSectionWithoutOccupancy;
+    private CourseSection lastSlotSection;
+    private List<MeetingTime> fullWeek;
+    private EligibilityResult result;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.student(11);
+        course = BenchmarkFixtures.course(1_000, null);
+        activeSemester = BenchmarkFixtures.activeSemester();
+
+        sections = new ArrayList<>(enrolledSections);
+        sectionsWithoutOccupancy = new ArrayList<>(enrolledSections);
+        for (int i = 0; i < enrolledSections; i++) {
+            List<MeetingTime> meetings = BenchmarkFixtures.meetings(MEETINGS_PER_SECTION, FIRST_HOUR + i);
+            sections.add(BenchmarkFixtures.section(i + 1, 100 + i, meetings, true));
+            sectionsWithoutOccupancy.add(BenchmarkFixtures.section(i + 1, 100 + i, meetings, false));
+        }
+
+        int freeHour = FIRST_HOUR + enrolledSections;
+        int lastHour = freeHour - 1;
+        freeSlotSection = BenchmarkFixtures.section(
+                500, 1_000, BenchmarkFixtures.meetings(MEETINGS_PER_SECTION, freeHour), true);
+        freeSlotSectionWithoutOccupancy = BenchmarkFixtures.section(
+                500, 1_000, BenchmarkFixtures.meetings(MEETINGS_PER_SECTION, freeHour), false);
+        lastSlotSection = BenchmarkFixtures.section(
+                501, 1_000, BenchmarkFixtures.meetings(MEETINGS_PER_SECTION, lastHour), true);
+
+        fullWeek = BenchmarkFixtures.meetings(MEETINGS_PER_SECTION, FIRST_HOUR);
+        result = new EligibilityResult();
+    }
+
+    @Benchmark
+    public EligibilityResult noConflict() {
+        return evaluate(freeSlotSection, sections);
+    }
+
+    @Benchmark
+    public EligibilityResult conflictOnLastSection() {
+        return evaluate(lastSlotSection, sections);
+    }
+
+    /**
+     * Same scan as noConflict, rebuilding every bitmap from meeting times.
+     */
+    @Benchmark
+    public EligibilityResult noConflictWithoutPrecomputedOccupancy() {
+        return evaluate(freeSlotSectionWithoutOccupancy, sectionsWithoutOccupancy);
+    }
+
+    /**
+     * Cost of one bitmap build, paid per section by the repository adapter.
+     */
+    @Benchmark
+    public WeeklyOccupancy buildOccupancy() {
+        return WeeklyOccupancy.of(fullWeek);
+    }
+
+    private EligibilityResult evaluate(CourseSection targetSection, List<CourseSection> currentEnrollmentSections) {
+        return service.evaluate(
+                student,
+                course,
+                targetSection,
+                activeSemester,
+                List.of(),
+                List.of(),
+                currentEnrollmentSections,
+                null,
+                0.0,
+                result
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.maplewood.application.auth.port;
+
+/**
+ * Token returned by TokenService, with the milliseconds left before it expires.
+ */
+public record IssuedToken(String token, long expiresIn) {
+}
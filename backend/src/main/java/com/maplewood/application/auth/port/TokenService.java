@@ -5,5 +5,9 @@ package com.maplewood.application.auth.port;
  */
 public interface TokenService {
 
-    String generateToken(Integer userId, String email);
+    /**
+     * @param gradeLevel signed into the token, so authenticated requests know it without a student lookup
+     * @return a new token, or one issued for the same claims moments ago
+     */
+    IssuedToken generateToken(Integer userId, String email, Integer gradeLevel);
 }
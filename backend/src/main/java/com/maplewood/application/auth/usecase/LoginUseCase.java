@@ -1,17 +1,19 @@
 package com.maplewood.application.auth.usecase;
 
 import com.maplewood.application.auth.dto.LoginResponseDTO;
+import com.maplewood.application.auth.port.IssuedToken;
 import com.maplewood.application.auth.port.TokenService;
 import com.maplewood.domain.student.exception.StudentNotFoundException;
 import com.maplewood.domain.student.model.Student;
 import com.maplewood.domain.student.port.StudentRepositoryPort;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use case for logging in students by email and issuing JWT token.
+ * Students are found through the by-email cache preloaded at startup, and a repeated login within
+ * the token reuse window gets the token issued moments ago, so a login spike rarely reaches the database.
  */
 @Slf4j
 @Component
@@ -19,15 +21,12 @@ public class LoginUseCase {
 
     private final StudentRepositoryPort studentRepositoryPort;
     private final TokenService tokenService;
-    private final long expirationMs;
 
     public LoginUseCase(
             StudentRepositoryPort studentRepositoryPort,
-            TokenService tokenService,
-            @Value("${jwt.expiration-ms:864000000}") long expirationMs) {
+            TokenService tokenService) {
         this.studentRepositoryPort = studentRepositoryPort;
         this.tokenService = tokenService;
-        this.expirationMs = expirationMs;
     }
 
     @Transactional(readOnly = true)
@@ -38,7 +37,7 @@ public class LoginUseCase {
         Student student = studentRepositoryPort.findByEmail(normalizedEmail)
                 .orElseThrow(() -> new StudentNotFoundException(normalizedEmail));
 
-        String token = tokenService.generateToken(student.getId(), student.getEmail());
-        return new LoginResponseDTO(token, expirationMs, student.getEmail(), student.getId());
+        IssuedToken token = tokenService.generateToken(student.getId(), student.getEmail(), student.getGradeLevel());
+        return new LoginResponseDTO(token.token(), token.expiresIn(), student.getEmail(), student.getId());
     }
 }
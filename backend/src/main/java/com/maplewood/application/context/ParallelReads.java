@@ -0,0 +1,127 @@
+package com.maplewood.application.context;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent reads of a use case concurrently on a bounded pool, so its latency is the
+ * longest chain of dependent lookups instead of the sum of all of them.
+ *
+ * Each load runs in its own read-only transaction (reader pool) and sees the caller's request
+ * attributes, so RequestEntityContext memoizes across the parallel loads of one request.
+ * When every worker is busy the caller runs the load itself; with usecase.fan-out.enabled=false
+ * every load runs inline, one after another.
+ * Part of Application Layer
+ */
+@Slf4j
+@Component
+public class ParallelReads {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    public ParallelReads(
+            PlatformTransactionManager transactionManager,
+            @Value("${usecase.fan-out.enabled:true}") boolean enabled,
+            @Value("${usecase.fan-out.threads:0}") int threads) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = enabled ? newExecutor(threads > 0 ? threads : 2 * Runtime.getRuntime().availableProcessors()) : null;
+    }
+
+    /**
+     * Start a load; combine the returned futures with thenApply and read them with join.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> loader) {
+        return supply(RequestContextHolder.getRequestAttributes(), loader);
+    }
+
+    /**
+     * Start a load once another one has completed, with its result. Use this rather than thenCompose:
+     * the continuation runs on a worker thread, which has no request attributes of its own.
+     */
+    public <T, R> CompletableFuture<R> supplyAfter(CompletableFuture<T> previous, Function<T, R> loader) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return previous.thenCompose(value -> supply(requestAttributes, () -> loader.apply(value)));
+    }
+
+    private <T> CompletableFuture<T> supply(RequestAttributes requestAttributes, Supplier<T> loader) {
+        Supplier<T> transactional = () -> readOnlyTransaction.execute(status -> loader.get());
+        if (executor == null) {
+            return CompletableFuture.completedFuture(transactional.get());
+        }
+        return CompletableFuture.supplyAsync(() -> withRequestAttributes(requestAttributes, transactional), executor);
+    }
+
+    /**
+     * Result of a load, rethrowing what the loader threw (e.g. a domain not-found exception) as is.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Restores the previous attributes rather than clearing them: with caller-runs the load runs on the request thread.
+     */
+    private static <T> T withRequestAttributes(RequestAttributes requestAttributes, Supplier<T> loader) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return loader.get();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "usecase-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        log.info("Use case fan-out enabled with {} threads", threads);
+        return executor;
+    }
+}
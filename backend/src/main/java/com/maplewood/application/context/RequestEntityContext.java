@@ -0,0 +1,228 @@
+package com.maplewood.application.context;
+
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.port.CourseRepositoryPort;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import com.maplewood.domain.student.model.Student;
+import com.maplewood.domain.student.port.StudentRepositoryPort;
+import com.maplewood.domain.teacher.model.Teacher;
+import com.maplewood.domain.teacher.port.TeacherRepositoryPort;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Memoizes entity lookups for the lifetime of the current HTTP request, so a use case (and anything
+ * it calls) resolves each Course, CourseSection list, Teacher, Semester and Student once.
+ *
+ * Collection lookups only load the ids not seen yet in this request, with one batch call through the port
+ * (whose adapters answer from the shared caches first). Outside an HTTP request every call goes to the ports.
+ * Values are the ones read first in the request: after its own write, a use case calls forgetSections
+ * so the response shows the new seat counts.
+ * Part of Application Layer
+ */
+@Component
+public class RequestEntityContext {
+
+    private static final String ATTRIBUTE = RequestEntityContext.class.getName();
+
+    private final CourseRepositoryPort courseRepositoryPort;
+    private final CourseSectionRepositoryPort courseSectionRepositoryPort;
+    private final SemesterRepositoryPort semesterRepositoryPort;
+    private final StudentRepositoryPort studentRepositoryPort;
+    private final TeacherRepositoryPort teacherRepositoryPort;
+
+    public RequestEntityContext(
+            CourseRepositoryPort courseRepositoryPort,
+            CourseSectionRepositoryPort courseSectionRepositoryPort,
+            SemesterRepositoryPort semesterRepositoryPort,
+            StudentRepositoryPort studentRepositoryPort,
+            TeacherRepositoryPort teacherRepositoryPort) {
+        this.courseRepositoryPort = courseRepositoryPort;
+        this.courseSectionRepositoryPort = courseSectionRepositoryPort;
+        this.semesterRepositoryPort = semesterRepositoryPort;
+        this.studentRepositoryPort = studentRepositoryPort;
+        this.teacherRepositoryPort = teacherRepositoryPort;
+    }
+
+    public Optional<Semester> activeSemester() {
+        Memo memo = memo();
+        Optional<Semester> cached = memo.activeSemester;
+        if (cached != null) {
+            return cached;
+        }
+        Optional<Semester> semester = semesterRepositoryPort.findActiveSemester();
+        memo.activeSemester = semester;
+        semester.ifPresent(value -> memo.semesters.put(value.getId(), semester));
+        return semester;
+    }
+
+    public Optional<Semester> semester(Integer id) {
+        return memoize(memo().semesters, id, semesterRepositoryPort::findById);
+    }
+
+    public Optional<Student> student(Integer id) {
+        return memoize(memo().students, id, studentRepositoryPort::findById);
+    }
+
+    public Optional<Course> course(Integer id) {
+        return memoize(memo().courses, id, courseRepositoryPort::findById);
+    }
+
+    /**
+     * Courses found for the ids, in id order; ids not loaded yet in this request are fetched in one batch.
+     */
+    public List<Course> courses(Collection<Integer> ids) {
+        Map<Integer, Optional<Course>> courses = memo().courses;
+        List<Integer> missingIds = missing(ids, courses);
+        if (!missingIds.isEmpty()) {
+            Map<Integer, Course> loaded = courseRepositoryPort.findAllById(missingIds).stream()
+                    .collect(Collectors.toMap(Course::getId, course -> course, (first, second) -> first));
+            missingIds.forEach(id -> courses.put(id, Optional.ofNullable(loaded.get(id))));
+        }
+        return present(ids, courses);
+    }
+
+    /**
+     * Teachers found for the ids, in id order; ids not loaded yet in this request are fetched in one batch.
+     */
+    public List<Teacher> teachers(Collection<Integer> ids) {
+        Map<Integer, Optional<Teacher>> teachers = memo().teachers;
+        List<Integer> missingIds = missing(ids, teachers);
+        if (!missingIds.isEmpty()) {
+            Map<Integer, Teacher> loaded = teacherRepositoryPort.findAllById(missingIds).stream()
+                    .collect(Collectors.toMap(Teacher::getId, teacher -> teacher, (first, second) -> first));
+            missingIds.forEach(id -> teachers.put(id, Optional.ofNullable(loaded.get(id))));
+        }
+        return present(ids, teachers);
+    }
+
+    public List<CourseSection> sections(Integer courseId, Integer semesterId) {
+        return memoize(
+                memo().sections,
+                new SectionsKey(courseId, semesterId),
+                key -> courseSectionRepositoryPort.findByCourseIdAndSemesterId(courseId, semesterId)
+        );
+    }
+
+    /**
+     * Sections of several courses in one semester. Answered from this request when every course is known,
+     * otherwise with the same batch call (and cache key) as without the context; the result is then
+     * remembered per course.
+     */
+    public List<CourseSection> sections(List<Integer> courseIds, Integer semesterId) {
+        Map<SectionsKey, List<CourseSection>> sections = memo().sections;
+        List<SectionsKey> keys = courseIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(courseId -> new SectionsKey(courseId, semesterId))
+                .toList();
+
+        if (!sections.keySet().containsAll(keys)) {
+            Map<Integer, List<CourseSection>> loadedByCourseId = courseSectionRepositoryPort
+                    .findByCourseIdInAndSemesterId(courseIds, semesterId)
+                    .stream()
+                    .collect(Collectors.groupingBy(CourseSection::getCourseId));
+            keys.forEach(key -> sections.putIfAbsent(key, loadedByCourseId.getOrDefault(key.courseId(), List.of())));
+        }
+
+        List<CourseSection> result = new ArrayList<>();
+        keys.forEach(key -> result.addAll(sections.get(key)));
+        return result;
+    }
+
+    /**
+     * Drops the sections of one course remembered by this request, so the next lookup reads them again.
+     */
+    public void forgetSections(Integer courseId, Integer semesterId) {
+        memo().sections.remove(new SectionsKey(courseId, semesterId));
+    }
+
+    /**
+     * Loads outside the map: computeIfAbsent would run the query while holding a ConcurrentHashMap bin lock,
+     * pinning the carrier of a virtual thread.
+     */
+    private static <K, V> V memoize(Map<K, V> memo, K key, Function<K, V> loader) {
+        V value = memo.get(key);
+        if (value != null) {
+            return value;
+        }
+        V loaded = loader.apply(key);
+        V existing = memo.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static <V> List<Integer> missing(Collection<Integer> ids, Map<Integer, Optional<V>> known) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !known.containsKey(id))
+                .distinct()
+                .toList();
+    }
+
+    private static <V> List<V> present(Collection<Integer> ids, Map<Integer, Optional<V>> known) {
+        if (ids == null) {
+            return List.of();
+        }
+        Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        List<V> values = new ArrayList<>(distinctIds.size());
+        for (Integer id : distinctIds) {
+            known.getOrDefault(id, Optional.empty()).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    /**
+     * The current request's memo, or a throwaway one when there is no request bound to this thread.
+     * ParallelReads hands the same RequestAttributes to its workers, so locking on them makes
+     * concurrent first calls of one request share a single memo.
+     */
+    private static Memo memo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new Memo();
+        }
+        if (attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Memo existing) {
+            return existing;
+        }
+        synchronized (attributes) {
+            if (attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Memo existing) {
+                return existing;
+            }
+            Memo created = new Memo();
+            attributes.setAttribute(ATTRIBUTE, created, RequestAttributes.SCOPE_REQUEST);
+            return created;
+        }
+    }
+
+    private record SectionsKey(Integer courseId, Integer semesterId) {
+    }
+
+    private static final class Memo {
+        private volatile Optional<Semester> activeSemester;
+        private final Map<Integer, Optional<Semester>> semesters = new ConcurrentHashMap<>();
+        private final Map<Integer, Optional<Student>> students = new ConcurrentHashMap<>();
+        private final Map<Integer, Optional<Course>> courses = new ConcurrentHashMap<>();
+        private final Map<Integer, Optional<Teacher>> teachers = new ConcurrentHashMap<>();
+        private final Map<SectionsKey, List<CourseSection>> sections = new ConcurrentHashMap<>();
+    }
+}
@@ -1,9 +1,14 @@
 package com.maplewood.application.course.controller;
 
 import com.maplewood.application.course.dto.CourseDTO;
+import com.maplewood.application.course.dto.CoursePageResponseDTO;
+import com.maplewood.application.course.dto.CourseSearchRequestDTO;
 import com.maplewood.application.course.dto.CoursesResponseDTO;
-import com.maplewood.application.course.usecase.GetAllCoursesUseCase;
+import com.maplewood.application.course.snapshot.CourseCatalogSnapshot;
+import com.maplewood.application.course.snapshot.CourseCatalogSnapshotService;
 import com.maplewood.application.course.usecase.GetCourseByIdUseCase;
+import com.maplewood.application.course.usecase.SearchCoursesUseCase;
+import com.maplewood.application.version.DataVersionTracker;
 import com.maplewood.infrastructure.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,12 +17,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST Controller for course-related operations
@@ -30,43 +38,90 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class CourseController {
 
-    private final GetAllCoursesUseCase getAllCoursesUseCase;
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final CourseCatalogSnapshotService courseCatalogSnapshotService;
+    private final SearchCoursesUseCase searchCoursesUseCase;
     private final GetCourseByIdUseCase getCourseByIdUseCase;
+    private final DataVersionTracker dataVersionTracker;
 
     @Autowired
-    public CourseController(GetAllCoursesUseCase getAllCoursesUseCase,
-            GetCourseByIdUseCase getCourseByIdUseCase) {
-        this.getAllCoursesUseCase = getAllCoursesUseCase;
+    public CourseController(CourseCatalogSnapshotService courseCatalogSnapshotService,
+            SearchCoursesUseCase searchCoursesUseCase,
+            GetCourseByIdUseCase getCourseByIdUseCase,
+            DataVersionTracker dataVersionTracker) {
+        this.courseCatalogSnapshotService = courseCatalogSnapshotService;
+        this.searchCoursesUseCase = searchCoursesUseCase;
         this.getCourseByIdUseCase = getCourseByIdUseCase;
+        this.dataVersionTracker = dataVersionTracker;
     }
 
     /**
-     * Get all courses
+     * Get all courses, or a filtered page of courses when any query parameter is given
+     * The full list is served from the pre-serialized catalog snapshot, gzip-compressed when the client accepts it.
+     * The ETag is the content hash of the served snapshot; answers 304 when If-None-Match still matches.
      * 
-     * @return List of all courses
+     * @return List of all courses, or one page of matching courses with the cursor of the next page
      */
-    @Operation(summary = "Get all courses", description = "Retrieve a list of all courses. Requires Authorization: Bearer token.")
+    @Operation(summary = "Get all courses", description = "Retrieve a list of all courses. "
+            + "Optional filters gradeLevel, courseType (core|elective), specializationId, semesterOrder (1|2), hasOpenSeats and q (code or name) "
+            + "switch to a page of at most limit (default 50, max 200) courses sorted by sort (code|name); "
+            + "pass the returned nextCursor as cursor to get the next page. Requires Authorization: Bearer token.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved courses", content = @Content(schema = @Schema(implementation = CoursesResponseDTO.class))),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved courses", content = @Content(schema = @Schema(oneOf = {CoursesResponseDTO.class, CoursePageResponseDTO.class}))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, sort or cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    @GetMapping
-    public ResponseEntity<CoursesResponseDTO> getAllCourses() {
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getAllCourses(
+            @Valid CourseSearchRequestDTO search,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        if (!search.isEmpty()) {
+            return searchCourses(search, webRequest);
+        }
         log.info("Received request to get all courses");
 
         try {
-            List<CourseDTO> courseDTOs = getAllCoursesUseCase.execute();
+            CourseCatalogSnapshot snapshot = courseCatalogSnapshotService.getSnapshot();
 
-            log.debug("Successfully retrieved {} courses", courseDTOs.size());
-            CoursesResponseDTO response = new CoursesResponseDTO(courseDTOs);
-            return ResponseEntity.ok(response);
+            // The ETag names the snapshot being served, so a 304 always refers to these exact bytes
+            boolean gzip = acceptsGzip(acceptEncoding) && snapshot.hasGzip();
+            String eTag = "\"courses-" + snapshot.contentHash() + (gzip ? "-gzip" : "") + "\"";
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+
+            log.debug("Serving course catalog snapshot v{} with {} courses", snapshot.version(), snapshot.courseCount());
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(REVALIDATE)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+            }
+            return response.body(snapshot.json());
         } catch (Exception e) {
             log.error("Error retrieving courses", e);
             throw e;
         }
     }
 
+    private ResponseEntity<CoursePageResponseDTO> searchCourses(CourseSearchRequestDTO search, WebRequest webRequest) {
+        log.info("Received request to search courses: {}", search);
+
+        String eTag = "\"courses-page-" + dataVersionTracker.catalogVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CoursePageResponseDTO page = searchCoursesUseCase.execute(search);
+        log.debug("Successfully retrieved page of {} courses", page.getCourses().size());
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(page);
+    }
+
     /**
      * Get course by id
      * 
@@ -76,6 +131,7 @@ public class CourseController {
     @Operation(summary = "Get course by id", description = "Retrieve a specific course by its id. Optional query param semesterId can be provided. Requires Authorization: Bearer token.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved course", content = @Content(schema = @Schema(implementation = CourseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
             @ApiResponse(responseCode = "404", description = "Course not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -83,18 +139,27 @@ public class CourseController {
     @GetMapping("/{id}")
     public ResponseEntity<CourseDTO> getCourseById(
             @PathVariable Integer id,
-            @RequestParam(required = false) Integer semesterId) {
+            @RequestParam(required = false) Integer semesterId,
+            WebRequest webRequest) {
         log.info("Received request to get course with id: {} and semesterId: {}", id, semesterId);
 
+        String eTag = "\"course-" + id + "-" + semesterId + "-" + dataVersionTracker.catalogVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         try {
             CourseDTO courseDTO = getCourseByIdUseCase.execute(id, semesterId);
 
             log.debug("Successfully retrieved course with id: {} and semesterId: {}", id, semesterId);
-            return ResponseEntity.ok(courseDTO);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(courseDTO);
         } catch (Exception e) {
             log.error("Error retrieving course with id: {} and semesterId: {}", id, semesterId, e);
             throw e;
         }
     }
 
+    private boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
 }
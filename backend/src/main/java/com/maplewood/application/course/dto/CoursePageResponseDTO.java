@@ -0,0 +1,20 @@
+package com.maplewood.application.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a filtered page of the courses list endpoint
+ * nextCursor is null on the last page
+ * Part of Application Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePageResponseDTO {
+    private List<CourseDTO> courses;
+    private String nextCursor;
+}
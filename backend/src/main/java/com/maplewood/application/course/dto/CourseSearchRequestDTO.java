@@ -0,0 +1,48 @@
+package com.maplewood.application.course.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Query parameters of GET /api/courses.
+ * When none is given the full catalog is returned; otherwise a filtered, sorted page.
+ */
+public record CourseSearchRequestDTO(
+        @Min(value = 1, message = "gradeLevel must be positive")
+        Integer gradeLevel,
+
+        String courseType,
+
+        Integer specializationId,
+
+        @Min(value = 1, message = "semesterOrder must be 1 (Fall) or 2 (Spring)")
+        @Max(value = 2, message = "semesterOrder must be 1 (Fall) or 2 (Spring)")
+        Integer semesterOrder,
+
+        Boolean hasOpenSeats,
+
+        @Size(max = 100, message = "q must be at most 100 characters")
+        String q,
+
+        String sort,
+
+        String cursor,
+
+        @Min(value = 1, message = "limit must be between 1 and 200")
+        @Max(value = 200, message = "limit must be between 1 and 200")
+        Integer limit
+) {
+
+    public boolean isEmpty() {
+        return gradeLevel == null
+                && courseType == null
+                && specializationId == null
+                && semesterOrder == null
+                && hasOpenSeats == null
+                && q == null
+                && sort == null
+                && cursor == null
+                && limit == null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.maplewood.application.course.snapshot;
+
+import java.time.Instant;
+
+/**
+ * Immutable, pre-serialized GET /api/courses response for one active semester.
+ *
+ * json holds the serialized CoursesResponseDTO; gzip holds the same bytes gzip-compressed,
+ * or null when compression is disabled or not worth it. contentHash is the hex SHA-256 of json.
+ * Part of Application Layer
+ */
+public record CourseCatalogSnapshot(
+        Integer semesterId,
+        long version,
+        byte[] json,
+        byte[] gzip,
+        String contentHash,
+        int courseCount,
+        Instant builtAt
+) {
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+}
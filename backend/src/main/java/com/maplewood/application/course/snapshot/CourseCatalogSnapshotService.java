@@ -0,0 +1,166 @@
+package com.maplewood.application.course.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maplewood.application.course.dto.CourseDTO;
+import com.maplewood.application.course.dto.CoursesResponseDTO;
+import com.maplewood.application.course.usecase.GetAllCoursesUseCase;
+import com.maplewood.domain.course.event.CourseChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsSettledEvent;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the course catalog as a pre-serialized snapshot so GET /api/courses skips mapping,
+ * batch loading and JSON serialization on every request.
+ *
+ * The snapshot is rebuilt when the active semester changes, when section seats change
+ * (enrolledCount is part of the payload) and, for catalog edits made outside the application,
+ * once it is older than catalog.snapshot.max-age. Seat changes rebuild it a second time once they settle,
+ * in case the first rebuild read a section list that an in-flight read cached with the previous counts.
+ * Changes committed on other nodes arrive as the same events, replayed by DataChangeBroadcaster.
+ * Part of Application Layer
+ */
+@Slf4j
+@Component
+public class CourseCatalogSnapshotService {
+
+    private final GetAllCoursesUseCase getAllCoursesUseCase;
+    private final SemesterRepositoryPort semesterRepositoryPort;
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+    private final Duration maxAge;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile CourseCatalogSnapshot current;
+
+    public CourseCatalogSnapshotService(
+            GetAllCoursesUseCase getAllCoursesUseCase,
+            SemesterRepositoryPort semesterRepositoryPort,
+            ObjectMapper objectMapper,
+            @Value("${catalog.snapshot.gzip-enabled:true}") boolean gzipEnabled,
+            @Value("${catalog.snapshot.gzip-min-bytes:1024}") int gzipMinBytes,
+            @Value("${catalog.snapshot.max-age:PT15M}") Duration maxAge) {
+        this.getAllCoursesUseCase = getAllCoursesUseCase;
+        this.semesterRepositoryPort = semesterRepositoryPort;
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Current snapshot, rebuilt first when it is stale. Concurrent callers wait for a single rebuild.
+     */
+    public CourseCatalogSnapshot getSnapshot() {
+        Integer semesterId = semesterRepositoryPort.findActiveSemester()
+                .map(Semester::getId)
+                .orElse(null);
+
+        CourseCatalogSnapshot snapshot = current;
+        if (isFresh(snapshot, semesterId)) {
+            return snapshot;
+        }
+
+        rebuildLock.lock();
+        try {
+            snapshot = current;
+            if (isFresh(snapshot, semesterId)) {
+                return snapshot;
+            }
+            snapshot = build(semesterId, version.get());
+            current = snapshot;
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Runs after the seat change is committed, so the next rebuild reads the new counts.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsChanged(SectionSeatsChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsSettled(SectionSeatsSettledEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private boolean isFresh(CourseCatalogSnapshot snapshot, Integer semesterId) {
+        return snapshot != null
+                && snapshot.version() == version.get()
+                && Objects.equals(snapshot.semesterId(), semesterId)
+                && snapshot.builtAt().plus(maxAge).isAfter(Instant.now());
+    }
+
+    private CourseCatalogSnapshot build(Integer semesterId, long buildVersion) {
+        List<CourseDTO> courses = getAllCoursesUseCase.execute();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(new CoursesResponseDTO(courses));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize course catalog", exception);
+        }
+        byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+
+        log.debug("Built course catalog snapshot v{} for semester {}: {} courses, {} bytes ({} gzipped)",
+                buildVersion, semesterId, courses.size(), json.length, gzip == null ? "not" : gzip.length);
+        return new CourseCatalogSnapshot(
+                semesterId,
+                buildVersion,
+                json,
+                gzip,
+                sha256(json),
+                courses.size(),
+                Instant.now()
+        );
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(bytes);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return output.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 not available", exception);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.maplewood.application.course.usecase;
 
+import com.maplewood.application.context.ParallelReads;
 import com.maplewood.application.course.dto.CourseDTO;
 import com.maplewood.application.course.mapper.CourseMapper;
 import com.maplewood.application.coursesection.mapper.CourseSectionMapper;
@@ -15,9 +16,9 @@ import com.maplewood.domain.teacher.model.Teacher;
 import com.maplewood.domain.teacher.port.TeacherRepositoryPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +34,7 @@ public class GetCourseByIdUseCase {
     private final CourseSectionMapper courseSectionMapper;
     private final SemesterRepositoryPort semesterRepositoryPort;
     private final TeacherRepositoryPort teacherRepositoryPort;
+    private final ParallelReads parallelReads;
 
     public GetCourseByIdUseCase(
             CourseRepositoryPort courseRepositoryPort,
@@ -40,25 +42,49 @@ public class GetCourseByIdUseCase {
             CourseSectionRepositoryPort courseSectionRepositoryPort,
             CourseSectionMapper courseSectionMapper,
             SemesterRepositoryPort semesterRepositoryPort,
-            TeacherRepositoryPort teacherRepositoryPort) {
+            TeacherRepositoryPort teacherRepositoryPort,
+            ParallelReads parallelReads) {
         this.courseRepositoryPort = courseRepositoryPort;
         this.courseMapper = courseMapper;
         this.courseSectionRepositoryPort = courseSectionRepositoryPort;
         this.courseSectionMapper = courseSectionMapper;
         this.semesterRepositoryPort = semesterRepositoryPort;
         this.teacherRepositoryPort = teacherRepositoryPort;
+        this.parallelReads = parallelReads;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Two independent chains run concurrently, each load in its own read-only transaction:
+     * course then prerequisite, and semester then sections then teachers.
+     */
     public CourseDTO execute(Integer id, Integer semesterId) {
         log.debug("Executing GetCourseByIdUseCase for course id: {} and semesterId: {}", id, semesterId);
-        Optional<Course> course = courseRepositoryPort.findById(id);
-        
+        CompletableFuture<Optional<Course>> courseLoad = parallelReads.supply(() -> courseRepositoryPort.findById(id));
+        CompletableFuture<Optional<Course>> prerequisiteLoad = parallelReads.supplyAfter(courseLoad, course -> course
+                .map(Course::getPrerequisiteId)
+                .flatMap(courseRepositoryPort::findById));
+
+        // Fetch requested semester when provided; otherwise fallback to active semester
+        CompletableFuture<Optional<Semester>> semesterLoad = parallelReads.supply(() -> semesterId != null
+                ? semesterRepositoryPort.findById(semesterId)
+                : semesterRepositoryPort.findActiveSemester());
+        CompletableFuture<List<CourseSection>> sectionsLoad = parallelReads.supplyAfter(semesterLoad,
+                semester -> semester
+                        .map(value -> courseSectionRepositoryPort.findByCourseIdAndSemesterId(id, value.getId()))
+                        .orElseGet(List::of));
+        CompletableFuture<Map<Integer, Teacher>> teachersLoad = parallelReads.supplyAfter(sectionsLoad,
+                this::loadTeachers);
+
+        CompletableFuture.allOf(prerequisiteLoad, teachersLoad)
+                .exceptionally(ignored -> null)
+                .join();
+
+        Optional<Course> course = ParallelReads.join(courseLoad);
         if (course.isEmpty()) {
             log.warn("Course not found with id: {}", id);
             throw new CourseNotFoundException(id);
         }
-        
+
         log.info("Found course with id: {}", id);
         Course domainCourse = course.get();
         CourseDTO courseDTO = courseMapper.toDTO(domainCourse);
@@ -67,62 +93,48 @@ public class GetCourseByIdUseCase {
             return courseDTO;
         }
 
-        // Fetch requested semester when provided; otherwise fallback to active semester
-        Optional<Semester> selectedSemesterOpt = semesterId != null
-                ? semesterRepositoryPort.findById(semesterId)
-                : semesterRepositoryPort.findActiveSemester();
+        Optional<Semester> selectedSemesterOpt = ParallelReads.join(semesterLoad);
         if (semesterId != null && selectedSemesterOpt.isEmpty()) {
             throw new SemesterNotFoundException(semesterId);
         }
 
-        CourseDTO.SemesterDTO semesterDTO = null;
-        Integer resolvedSemesterId = null;
-        if (selectedSemesterOpt.isPresent()) {
-            Semester semester = selectedSemesterOpt.get();
-            resolvedSemesterId = semester.getId();
-            semesterDTO = toSemesterDTO(semester);
-        }
-
-        // Enrich with sections (using the semester we already fetched)
-        List<CourseSection> sections = List.of();
-        Map<Integer, Teacher> teachersById = new HashMap<>();
-        if (resolvedSemesterId != null) {
-            sections = courseSectionRepositoryPort.findByCourseIdAndSemesterId(domainCourse.getId(), resolvedSemesterId);
-            // Batch load teachers for sections
-            if (!sections.isEmpty()) {
-                Set<Integer> teacherIds = sections.stream()
-                        .map(CourseSection::getTeacherId)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toSet());
-                if (!teacherIds.isEmpty()) {
-                    List<Teacher> teachers = teacherRepositoryPort.findAllById(new ArrayList<>(teacherIds));
-                    teachersById = teachers.stream()
-                            .collect(Collectors.toMap(Teacher::getId, t -> t));
-                }
-            }
-        }
-        courseDTO.setAvailableSections(courseSectionMapper.toDTOList(sections, teachersById));
+        // Enrich with sections and their teachers
+        courseDTO.setAvailableSections(courseSectionMapper.toDTOList(
+                ParallelReads.join(sectionsLoad),
+                ParallelReads.join(teachersLoad)
+        ));
 
         // Enrich with prerequisite
-        if (domainCourse.getPrerequisiteId() != null) {
-            Optional<Course> prerequisiteCourse = courseRepositoryPort.findById(domainCourse.getPrerequisiteId());
-            if (prerequisiteCourse.isPresent()) {
-                Course prereq = prerequisiteCourse.get();
-                CourseDTO.CoursePrerequisiteDTO prerequisiteDTO = new CourseDTO.CoursePrerequisiteDTO(
+        ParallelReads.join(prerequisiteLoad).ifPresent(prereq -> courseDTO.setPrerequisite(
+                new CourseDTO.CoursePrerequisiteDTO(
                         prereq.getId(),
                         prereq.getCode(),
                         prereq.getName()
-                );
-                courseDTO.setPrerequisite(prerequisiteDTO);
-            }
-        }
+                )
+        ));
 
         // Enrich with semester
-        courseDTO.setSemester(semesterDTO);
+        courseDTO.setSemester(selectedSemesterOpt.map(this::toSemesterDTO).orElse(null));
 
         return courseDTO;
     }
 
+    /**
+     * Batch load the teachers of the sections
+     */
+    private Map<Integer, Teacher> loadTeachers(List<CourseSection> sections) {
+        Set<Integer> teacherIds = sections.stream()
+                .map(CourseSection::getTeacherId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (teacherIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return teacherRepositoryPort.findAllById(new ArrayList<>(teacherIds))
+                .stream()
+                .collect(Collectors.toMap(Teacher::getId, t -> t));
+    }
+
     private CourseDTO.SemesterDTO toSemesterDTO(Semester semester) {
         return new CourseDTO.SemesterDTO(
                 semester.getId(),
@@ -0,0 +1,119 @@
+package com.maplewood.application.course.usecase;
+
+import com.maplewood.application.course.dto.CourseDTO;
+import com.maplewood.application.course.dto.CoursePageResponseDTO;
+import com.maplewood.application.course.dto.CourseSearchRequestDTO;
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.model.CourseSearchCriteria;
+import com.maplewood.domain.course.model.CourseSortField;
+import com.maplewood.domain.course.model.CourseType;
+import com.maplewood.domain.course.model.SemesterOrder;
+import com.maplewood.domain.course.port.CourseRepositoryPort;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Use case: filter, sort and page courses in the database.
+ *
+ * The cursor is an opaque base64url token holding the sort key and the (sort value, id) of the
+ * last course of the previous page, so pages stay stable while the catalog grows.
+ */
+@Slf4j
+@Component
+public class SearchCoursesUseCase {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final String CURSOR_SEPARATOR = ":";
+
+    private final CourseRepositoryPort courseRepositoryPort;
+    private final SemesterRepositoryPort semesterRepositoryPort;
+    private final CourseDtoAssembler courseDtoAssembler;
+
+    public SearchCoursesUseCase(
+            CourseRepositoryPort courseRepositoryPort,
+            SemesterRepositoryPort semesterRepositoryPort,
+            CourseDtoAssembler courseDtoAssembler) {
+        this.courseRepositoryPort = courseRepositoryPort;
+        this.semesterRepositoryPort = semesterRepositoryPort;
+        this.courseDtoAssembler = courseDtoAssembler;
+    }
+
+    @Transactional(readOnly = true)
+    public CoursePageResponseDTO execute(CourseSearchRequestDTO request) {
+        CourseSortField sort = CourseSortField.fromValue(request.sort());
+        int limit = request.limit() == null ? DEFAULT_LIMIT : request.limit();
+        boolean onlyWithOpenSeats = Boolean.TRUE.equals(request.hasOpenSeats());
+
+        CourseSearchCriteria.CourseSearchCriteriaBuilder criteria = CourseSearchCriteria.builder()
+                .gradeLevel(request.gradeLevel())
+                .courseType(request.courseType() == null ? null : CourseType.fromValue(request.courseType()))
+                .specializationId(request.specializationId())
+                .semesterOrder(request.semesterOrder() == null ? null : SemesterOrder.fromValue(request.semesterOrder()))
+                .onlyWithOpenSeats(onlyWithOpenSeats)
+                .text(request.q())
+                .sort(sort)
+                // One extra row tells whether another page exists
+                .limit(limit + 1);
+
+        if (onlyWithOpenSeats) {
+            Integer activeSemesterId = semesterRepositoryPort.findActiveSemester()
+                    .map(Semester::getId)
+                    .orElse(null);
+            if (activeSemesterId == null) {
+                return new CoursePageResponseDTO(List.of(), null);
+            }
+            criteria.openSeatsSemesterId(activeSemesterId);
+        }
+
+        if (request.cursor() != null) {
+            applyCursor(criteria, request.cursor(), sort);
+        }
+
+        List<Course> courses = courseRepositoryPort.search(criteria.build());
+        boolean hasNextPage = courses.size() > limit;
+        List<Course> page = hasNextPage ? courses.subList(0, limit) : courses;
+        log.debug("Course search sorted by {} returned {} courses (next page: {})", sort.getValue(), page.size(), hasNextPage);
+
+        List<CourseDTO> courseDTOs = courseDtoAssembler.toEnrichedDtos(page);
+        String nextCursor = hasNextPage ? encodeCursor(sort, page.get(page.size() - 1)) : null;
+        return new CoursePageResponseDTO(courseDTOs, nextCursor);
+    }
+
+    private void applyCursor(
+            CourseSearchCriteria.CourseSearchCriteriaBuilder criteria,
+            String cursor,
+            CourseSortField sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, 3);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 3 || !sort.getValue().equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid cursor for sort: " + sort.getValue());
+        }
+        try {
+            criteria.afterId(Integer.valueOf(parts[1]));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        criteria.afterSortValue(parts[2]);
+    }
+
+    private String encodeCursor(CourseSortField sort, Course last) {
+        String sortValue = switch (sort) {
+            case CODE -> last.getCode();
+            case NAME -> last.getName();
+        };
+        String cursor = sort.getValue() + CURSOR_SEPARATOR + last.getId() + CURSOR_SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
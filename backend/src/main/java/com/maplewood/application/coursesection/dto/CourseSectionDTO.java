@@ -21,6 +21,7 @@ public class CourseSectionDTO {
     private List<MeetingTimeDTO> meetingTimes;
     private Integer capacity;
     private Integer enrolledCount;
+    private Integer remainingSeats;
 
     @Data
     @NoArgsConstructor
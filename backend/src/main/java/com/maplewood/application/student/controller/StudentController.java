@@ -2,16 +2,21 @@ package com.maplewood.application.student.controller;
 
 import com.maplewood.application.student.dto.CourseHistoryResponseDTO;
 import com.maplewood.application.student.dto.CreateEnrollmentRequestDTO;
+import com.maplewood.application.student.dto.EligibilityRequestDTO;
+import com.maplewood.application.student.dto.EligibilityResponseDTO;
 import com.maplewood.application.student.dto.EnrollmentResponseDTO;
 import com.maplewood.application.student.dto.EnrollmentsResponseDTO;
 import com.maplewood.application.student.dto.StudentProfileResponseDTO;
+import com.maplewood.application.student.usecase.CheckMyEligibilityUseCase;
 import com.maplewood.application.student.usecase.CreateEnrollmentUseCase;
 import com.maplewood.application.student.usecase.DeleteEnrollmentUseCase;
 import com.maplewood.application.student.usecase.GetMyCourseHistoryUseCase;
 import com.maplewood.application.student.usecase.GetMyEnrollmentsUseCase;
 import com.maplewood.application.student.usecase.GetMyProfileUseCase;
+import com.maplewood.application.version.DataVersionTracker;
 import com.maplewood.domain.student.exception.InvalidAuthenticatedStudentException;
 import com.maplewood.infrastructure.exception.ErrorResponse;
+import com.maplewood.infrastructure.security.StudentPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -21,6 +26,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -38,23 +45,31 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "bearerAuth")
 public class StudentController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final GetMyCourseHistoryUseCase getMyCourseHistoryUseCase;
     private final GetMyProfileUseCase getMyProfileUseCase;
     private final GetMyEnrollmentsUseCase getMyEnrollmentsUseCase;
     private final CreateEnrollmentUseCase createEnrollmentUseCase;
     private final DeleteEnrollmentUseCase deleteEnrollmentUseCase;
+    private final CheckMyEligibilityUseCase checkMyEligibilityUseCase;
+    private final DataVersionTracker dataVersionTracker;
 
     public StudentController(
             GetMyCourseHistoryUseCase getMyCourseHistoryUseCase,
             GetMyProfileUseCase getMyProfileUseCase,
             GetMyEnrollmentsUseCase getMyEnrollmentsUseCase,
             CreateEnrollmentUseCase createEnrollmentUseCase,
-            DeleteEnrollmentUseCase deleteEnrollmentUseCase) {
+            DeleteEnrollmentUseCase deleteEnrollmentUseCase,
+            CheckMyEligibilityUseCase checkMyEligibilityUseCase,
+            DataVersionTracker dataVersionTracker) {
         this.getMyCourseHistoryUseCase = getMyCourseHistoryUseCase;
         this.getMyProfileUseCase = getMyProfileUseCase;
         this.getMyEnrollmentsUseCase = getMyEnrollmentsUseCase;
         this.createEnrollmentUseCase = createEnrollmentUseCase;
         this.deleteEnrollmentUseCase = deleteEnrollmentUseCase;
+        this.checkMyEligibilityUseCase = checkMyEligibilityUseCase;
+        this.dataVersionTracker = dataVersionTracker;
     }
 
     @Operation(
@@ -63,14 +78,19 @@ public class StudentController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved student profile", content = @Content(schema = @Schema(implementation = StudentProfileResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
             @ApiResponse(responseCode = "404", description = "Student not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/profile")
-    public ResponseEntity<StudentProfileResponseDTO> getMyProfile(Authentication authentication) {
+    public ResponseEntity<StudentProfileResponseDTO> getMyProfile(Authentication authentication, WebRequest webRequest) {
         Integer studentId = extractStudentId(authentication);
         log.info("Received request to get profile for student id: {}", studentId);
-        return ResponseEntity.ok(getMyProfileUseCase.execute(studentId));
+        String eTag = "\"profile-" + studentId + "-" + dataVersionTracker.referenceVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(getMyProfileUseCase.execute(studentId));
     }
 
     @Operation(
@@ -79,15 +99,20 @@ public class StudentController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved student course history", content = @Content(schema = @Schema(implementation = CourseHistoryResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
             @ApiResponse(responseCode = "400", description = "Related course or semester data missing", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Student not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/courses/history")
-    public ResponseEntity<CourseHistoryResponseDTO> getMyCourseHistory(Authentication authentication) {
+    public ResponseEntity<CourseHistoryResponseDTO> getMyCourseHistory(Authentication authentication, WebRequest webRequest) {
         Integer studentId = extractStudentId(authentication);
         log.info("Received request to get course history for student id: {}", studentId);
-        return ResponseEntity.ok(getMyCourseHistoryUseCase.execute(studentId));
+        String eTag = "\"history-" + studentId + "-" + dataVersionTracker.referenceVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(getMyCourseHistoryUseCase.execute(studentId));
     }
 
     @Operation(
@@ -96,14 +121,19 @@ public class StudentController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved student enrollments", content = @Content(schema = @Schema(implementation = EnrollmentsResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
             @ApiResponse(responseCode = "400", description = "Active semester not found or invalid argument", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/enrollments")
-    public ResponseEntity<EnrollmentsResponseDTO> getMyEnrollments(Authentication authentication) {
+    public ResponseEntity<EnrollmentsResponseDTO> getMyEnrollments(Authentication authentication, WebRequest webRequest) {
         Integer studentId = extractStudentId(authentication);
         log.info("Received request to get enrollments for student id: {}", studentId);
-        return ResponseEntity.ok(getMyEnrollmentsUseCase.execute(studentId));
+        String eTag = "\"enrollments-" + studentId + "-" + dataVersionTracker.enrollmentVersion(studentId) + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(getMyEnrollmentsUseCase.execute(studentId));
     }
 
     @Operation(
@@ -113,7 +143,8 @@ public class StudentController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully created student enrollment", content = @Content(schema = @Schema(implementation = EnrollmentResponseDTO.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
-            @ApiResponse(responseCode = "400", description = "Validation failed or invalid argument", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "400", description = "Validation failed or invalid argument", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Course section has no remaining seats", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/enrollments")
     public ResponseEntity<EnrollmentResponseDTO> createEnrollment(
@@ -145,6 +176,28 @@ public class StudentController {
         return ResponseEntity.ok(deleteEnrollmentUseCase.execute(studentId, courseId));
     }
 
+    @Operation(
+            summary = "Check enrollment eligibility for current student",
+            description = "Evaluate enrollment eligibility of the authenticated student for a list of course ids in the active semester."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully evaluated eligibility", content = @Content(schema = @Schema(implementation = EligibilityResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT token"),
+            @ApiResponse(responseCode = "400", description = "Validation failed or invalid argument", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Student or active semester not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/eligibility")
+    public ResponseEntity<EligibilityResponseDTO> checkEligibility(
+            @Valid @RequestBody EligibilityRequestDTO request,
+            Authentication authentication
+    ) {
+        Integer studentId = extractStudentId(authentication);
+        log.info("Received request to check eligibility for student id: {}, courses: {}",
+                studentId, request.courseIds().size());
+        return ResponseEntity.ok(checkMyEligibilityUseCase.execute(
+                studentId, extractGradeLevel(authentication), request.courseIds()));
+    }
+
     private Integer extractStudentId(Authentication authentication) {
         Object principal = authentication.getPrincipal();
         if (principal instanceof Integer id) {
@@ -155,4 +208,12 @@ public class StudentController {
         }
         throw new InvalidAuthenticatedStudentException();
     }
+
+    /**
+     * Grade level signed into the token, or null when the authentication does not carry it.
+     * Only for the eligibility preview: it can be stale, so enrollment reads the student record instead.
+     */
+    private Integer extractGradeLevel(Authentication authentication) {
+        return authentication instanceof StudentPrincipal principal ? principal.gradeLevel() : null;
+    }
 }
@@ -0,0 +1,18 @@
+package com.maplewood.application.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseEligibilityDTO {
+    private Integer courseId;
+    private boolean eligible;
+    private boolean enrolled;
+    private List<Integer> eligibleSectionIds;
+    private List<EligibilityValidationDTO> validation;
+}
@@ -0,0 +1,14 @@
+package com.maplewood.application.student.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record EligibilityRequestDTO(
+        @NotEmpty(message = "courseIds is required")
+        @Size(max = 200, message = "courseIds must contain at most 200 ids")
+        List<@NotNull(message = "courseIds must not contain null values") Integer> courseIds
+) {
+}
@@ -0,0 +1,15 @@
+package com.maplewood.application.student.dto;
+
+import com.maplewood.application.course.dto.CourseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilityValidationDTO {
+    private String type;
+    private String message;
+    private CourseDTO.CoursePrerequisiteDTO prerequisite;
+}
@@ -0,0 +1,293 @@
+package com.maplewood.application.student.usecase;
+
+import com.maplewood.application.course.dto.CourseDTO;
+import com.maplewood.application.student.dto.CourseEligibilityDTO;
+import com.maplewood.application.student.dto.EligibilityResponseDTO;
+import com.maplewood.application.student.dto.EligibilityValidationDTO;
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.port.CourseRepositoryPort;
+import com.maplewood.domain.coursehistory.model.CourseHistory;
+import com.maplewood.domain.coursehistory.port.CourseHistoryRepositoryPort;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
+import com.maplewood.domain.enrollment.model.EligibilityResult;
+import com.maplewood.domain.enrollment.model.EligibilityViolation;
+import com.maplewood.domain.enrollment.model.Enrollment;
+import com.maplewood.domain.enrollment.port.EnrollmentRepositoryPort;
+import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
+import com.maplewood.domain.semester.exception.ActiveSemesterNotFoundException;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import com.maplewood.domain.student.exception.StudentNotFoundException;
+import com.maplewood.domain.student.model.Student;
+import com.maplewood.domain.student.model.StudentAcademicMetrics;
+import com.maplewood.domain.student.port.StudentRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case: evaluate enrollment eligibility of the current student for many courses at once.
+ * Student, history, current enrollments and academic metrics are loaded a single time
+ * and the EnrollmentEligibilityService rules are run against every section of every candidate course.
+ * Every failed rule is reported, without going through EnrollmentEligibilityException.
+ * A section without remaining seats is never eligible: when it passes every rule it fails with section_full,
+ * using the seat counts read at evaluation time.
+ */
+@Slf4j
+@Component
+public class CheckMyEligibilityUseCase {
+
+    private final EnrollmentRepositoryPort enrollmentRepositoryPort;
+    private final CourseRepositoryPort courseRepositoryPort;
+    private final CourseSectionRepositoryPort courseSectionRepositoryPort;
+    private final SemesterRepositoryPort semesterRepositoryPort;
+    private final StudentRepositoryPort studentRepositoryPort;
+    private final CourseHistoryRepositoryPort courseHistoryRepositoryPort;
+    private final EnrollmentEligibilityService enrollmentEligibilityService;
+
+    public CheckMyEligibilityUseCase(
+            EnrollmentRepositoryPort enrollmentRepositoryPort,
+            CourseRepositoryPort courseRepositoryPort,
+            CourseSectionRepositoryPort courseSectionRepositoryPort,
+            SemesterRepositoryPort semesterRepositoryPort,
+            StudentRepositoryPort studentRepositoryPort,
+            CourseHistoryRepositoryPort courseHistoryRepositoryPort,
+            EnrollmentEligibilityService enrollmentEligibilityService
+    ) {
+        this.enrollmentRepositoryPort = enrollmentRepositoryPort;
+        this.courseRepositoryPort = courseRepositoryPort;
+        this.courseSectionRepositoryPort = courseSectionRepositoryPort;
+        this.semesterRepositoryPort = semesterRepositoryPort;
+        this.studentRepositoryPort = studentRepositoryPort;
+        this.courseHistoryRepositoryPort = courseHistoryRepositoryPort;
+        this.enrollmentEligibilityService = enrollmentEligibilityService;
+    }
+
+    @Transactional(readOnly = true)
+    public EligibilityResponseDTO execute(Integer studentId, List<Integer> courseIds) {
+        return execute(studentId, null, courseIds);
+    }
+
+    /**
+     * @param gradeLevel the student's grade level when the caller already knows it (from the authentication),
+     *                   which skips the student lookup; null to load the student. The result is a preview,
+     *                   CreateEnrollmentUseCase re-evaluates against the student record
+     */
+    @Transactional(readOnly = true)
+    public EligibilityResponseDTO execute(Integer studentId, Integer gradeLevel, List<Integer> courseIds) {
+        List<Integer> candidateCourseIds = courseIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        log.debug("Evaluating eligibility of {} courses for student id {}", candidateCourseIds.size(), studentId);
+
+        // 1. Load the student context once
+        Semester activeSemester = semesterRepositoryPort.findActiveSemester()
+                .orElseThrow(ActiveSemesterNotFoundException::new);
+        Student student = gradeLevel != null
+                ? Student.withGradeLevel(studentId, gradeLevel)
+                : studentRepositoryPort.findById(studentId)
+                        .orElseThrow(() -> new StudentNotFoundException("id: " + studentId));
+
+        List<Enrollment> currentSemesterEnrollments = enrollmentRepositoryPort.findByStudentIdAndSemesterId(
+                studentId,
+                activeSemester.getId()
+        );
+        List<CourseHistory> courseHistory = courseHistoryRepositoryPort.findByStudentId(studentId);
+        StudentAcademicMetrics studentAcademicMetrics = courseHistoryRepositoryPort.findStudentAcademicMetrics(studentId);
+        Double earnedCredits = studentAcademicMetrics.getCreditsEarned() == null
+                ? 0.0
+                : studentAcademicMetrics.getCreditsEarned().doubleValue();
+        List<CourseSection> currentEnrollmentSections = findCurrentEnrollmentSections(
+                currentSemesterEnrollments,
+                activeSemester.getId()
+        );
+
+        // 2. Batch load candidate courses, their sections and their prerequisites
+        Map<Integer, Course> coursesById = courseRepositoryPort.findAllById(candidateCourseIds)
+                .stream()
+                .collect(Collectors.toMap(Course::getId, course -> course));
+
+        Map<Integer, List<CourseSection>> sectionsByCourseId = courseSectionRepositoryPort
+                .findByCourseIdInAndSemesterId(candidateCourseIds, activeSemester.getId())
+                .stream()
+                .collect(Collectors.groupingBy(CourseSection::getCourseId));
+
+        Set<Integer> prerequisiteIds = coursesById.values().stream()
+                .map(Course::getPrerequisiteId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Course> prerequisitesById = new HashMap<>();
+        if (!prerequisiteIds.isEmpty()) {
+            prerequisitesById = courseRepositoryPort.findAllById(new ArrayList<>(prerequisiteIds))
+                    .stream()
+                    .collect(Collectors.toMap(Course::getId, course -> course));
+        }
+
+        Map<Integer, Enrollment> enrollmentsByCourseId = currentSemesterEnrollments.stream()
+                .filter(enrollment -> enrollment.getCourseId() != null)
+                .collect(Collectors.toMap(Enrollment::getCourseId, enrollment -> enrollment, (first, second) -> first));
+
+        // 3. Evaluate every candidate against the preloaded context, reusing one result holder
+        Map<Integer, Course> finalPrerequisitesById = prerequisitesById;
+        EligibilityResult result = new EligibilityResult();
+        List<CourseEligibilityDTO> items = candidateCourseIds.stream()
+                .map(courseId -> {
+                    Enrollment enrollment = enrollmentsByCourseId.get(courseId);
+                    if (enrollment != null) {
+                        return new CourseEligibilityDTO(
+                                courseId,
+                                true,
+                                true,
+                                enrollment.getSectionId() == null ? List.of() : List.of(enrollment.getSectionId()),
+                                List.of()
+                        );
+                    }
+                    return evaluateCourse(
+                            courseId,
+                            coursesById.get(courseId),
+                            sectionsByCourseId.getOrDefault(courseId, List.of()),
+                            student,
+                            activeSemester,
+                            currentSemesterEnrollments,
+                            courseHistory,
+                            currentEnrollmentSections,
+                            earnedCredits,
+                            finalPrerequisitesById,
+                            result
+                    );
+                })
+                .toList();
+
+        return new EligibilityResponseDTO(items);
+    }
+
+    private CourseEligibilityDTO evaluateCourse(
+            Integer courseId,
+            Course course,
+            List<CourseSection> sections,
+            Student student,
+            Semester activeSemester,
+            List<Enrollment> currentSemesterEnrollments,
+            List<CourseHistory> courseHistory,
+            List<CourseSection> currentEnrollmentSections,
+            Double earnedCredits,
+            Map<Integer, Course> prerequisitesById,
+            EligibilityResult result
+    ) {
+        if (course == null) {
+            return ineligible(courseId, new EligibilityValidationDTO("other", "Course not found.", null));
+        }
+        if (sections.isEmpty()) {
+            return ineligible(courseId, new EligibilityValidationDTO(
+                    "other",
+                    "This course has no sections in the active semester.",
+                    null
+            ));
+        }
+
+        List<Integer> eligibleSectionIds = new ArrayList<>();
+        List<EligibilityValidationDTO> firstFailure = null;
+        for (CourseSection section : sections) {
+            enrollmentEligibilityService.evaluate(
+                    student,
+                    course,
+                    section,
+                    activeSemester,
+                    currentSemesterEnrollments,
+                    courseHistory,
+                    currentEnrollmentSections,
+                    null,
+                    earnedCredits,
+                    result
+            );
+            if (!result.isEligible()) {
+                if (firstFailure == null) {
+                    firstFailure = result.getViolations().stream()
+                            .map(violation -> toValidation(violation, prerequisitesById))
+                            .toList();
+                }
+            } else if (isFull(section)) {
+                if (firstFailure == null) {
+                    firstFailure = List.of(new EligibilityValidationDTO(
+                            EligibilityViolation.TYPE_SECTION_FULL,
+                            "This section has no remaining seats.",
+                            null
+                    ));
+                }
+            } else {
+                eligibleSectionIds.add(section.getId());
+            }
+        }
+
+        if (!eligibleSectionIds.isEmpty()) {
+            return new CourseEligibilityDTO(courseId, true, false, eligibleSectionIds, List.of());
+        }
+        return new CourseEligibilityDTO(courseId, false, false, List.of(), firstFailure);
+    }
+
+    /**
+     * A section without capacity has no seat limit
+     */
+    private static boolean isFull(CourseSection section) {
+        Integer remainingSeats = section.getRemainingSeats();
+        return remainingSeats != null && remainingSeats == 0;
+    }
+
+    private CourseEligibilityDTO ineligible(Integer courseId, EligibilityValidationDTO validation) {
+        return new CourseEligibilityDTO(courseId, false, false, List.of(), List.of(validation));
+    }
+
+    private EligibilityValidationDTO toValidation(
+            EligibilityViolation violation,
+            Map<Integer, Course> prerequisitesById
+    ) {
+        CourseDTO.CoursePrerequisiteDTO prerequisiteDTO = null;
+        if (violation.getPrerequisite() != null) {
+            Integer prerequisiteId = violation.getPrerequisite().getId();
+            Course prerequisite = prerequisitesById.get(prerequisiteId);
+            prerequisiteDTO = prerequisite == null
+                    ? new CourseDTO.CoursePrerequisiteDTO(prerequisiteId, null, null)
+                    : new CourseDTO.CoursePrerequisiteDTO(prerequisite.getId(), prerequisite.getCode(), prerequisite.getName());
+        }
+        return new EligibilityValidationDTO(violation.getType(), violation.getMessage(), prerequisiteDTO);
+    }
+
+    private List<CourseSection> findCurrentEnrollmentSections(
+            List<Enrollment> currentSemesterEnrollments,
+            Integer semesterId
+    ) {
+        if (currentSemesterEnrollments == null || currentSemesterEnrollments.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> courseIds = currentSemesterEnrollments.stream()
+                .map(Enrollment::getCourseId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Integer> enrolledSectionIds = currentSemesterEnrollments.stream()
+                .map(Enrollment::getSectionId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        return courseSectionRepositoryPort.findByCourseIdInAndSemesterId(courseIds, semesterId)
+                .stream()
+                .filter(section -> enrolledSectionIds.contains(section.getId()))
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.maplewood.application.student.usecase;
 
+import com.maplewood.application.context.ParallelReads;
+import com.maplewood.application.context.RequestEntityContext;
 import com.maplewood.application.course.dto.CourseDTO;
 import com.maplewood.application.course.mapper.CourseMapper;
 import com.maplewood.application.coursesection.dto.CourseSectionDTO;
@@ -9,117 +11,159 @@ import com.maplewood.application.student.dto.EnrollmentResponseDTO;
 import com.maplewood.application.student.dto.SemesterSummaryDTO;
 import com.maplewood.domain.course.exception.CourseNotFoundException;
 import com.maplewood.domain.course.model.Course;
-import com.maplewood.domain.course.port.CourseRepositoryPort;
 import com.maplewood.domain.coursehistory.model.CourseHistory;
 import com.maplewood.domain.coursehistory.port.CourseHistoryRepositoryPort;
+import com.maplewood.domain.coursesection.exception.CourseSectionFullException;
 import com.maplewood.domain.coursesection.exception.CourseSectionNotFoundException;
 import com.maplewood.domain.coursesection.model.CourseSection;
 import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
+import com.maplewood.domain.enrollment.model.EligibilityResult;
 import com.maplewood.domain.enrollment.model.Enrollment;
 import com.maplewood.domain.enrollment.port.EnrollmentRepositoryPort;
+import com.maplewood.domain.enrollment.port.EnrollmentWriterPort;
 import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
 import com.maplewood.domain.semester.exception.ActiveSemesterNotFoundException;
 import com.maplewood.domain.semester.model.Semester;
-import com.maplewood.domain.semester.port.SemesterRepositoryPort;
 import com.maplewood.domain.student.exception.StudentNotFoundException;
 import com.maplewood.domain.student.model.StudentAcademicMetrics;
 import com.maplewood.domain.student.model.Student;
-import com.maplewood.domain.student.port.StudentRepositoryPort;
 import com.maplewood.domain.teacher.model.Teacher;
-import com.maplewood.domain.teacher.port.TeacherRepositoryPort;
+import org.springframework.dao.DataAccessException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+/**
+ * Use case: enroll the current student in a course section.
+ * Validation runs outside of any write transaction; the seat reservation and insert are handed to
+ * EnrollmentWriterPort, which may commit them together with other students' enrollments.
+ * Entities are resolved through RequestEntityContext, so the response reuses what validation loaded,
+ * and the validation reads are fanned out with ParallelReads.
+ */
 @Component
 public class CreateEnrollmentUseCase {
 
     private final EnrollmentRepositoryPort enrollmentRepositoryPort;
-    private final CourseRepositoryPort courseRepositoryPort;
+    private final EnrollmentWriterPort enrollmentWriterPort;
     private final CourseSectionRepositoryPort courseSectionRepositoryPort;
-    private final SemesterRepositoryPort semesterRepositoryPort;
-    private final TeacherRepositoryPort teacherRepositoryPort;
-    private final StudentRepositoryPort studentRepositoryPort;
+    private final RequestEntityContext requestEntityContext;
+    private final ParallelReads parallelReads;
     private final CourseHistoryRepositoryPort courseHistoryRepositoryPort;
     private final EnrollmentEligibilityService enrollmentEligibilityService;
     private final CourseMapper courseMapper;
     private final CourseSectionMapper courseSectionMapper;
+    private final long writeTimeoutMs;
 
     public CreateEnrollmentUseCase(
             EnrollmentRepositoryPort enrollmentRepositoryPort,
-            CourseRepositoryPort courseRepositoryPort,
+            EnrollmentWriterPort enrollmentWriterPort,
             CourseSectionRepositoryPort courseSectionRepositoryPort,
-            SemesterRepositoryPort semesterRepositoryPort,
-            TeacherRepositoryPort teacherRepositoryPort,
-            StudentRepositoryPort studentRepositoryPort,
+            RequestEntityContext requestEntityContext,
+            ParallelReads parallelReads,
             CourseHistoryRepositoryPort courseHistoryRepositoryPort,
             EnrollmentEligibilityService enrollmentEligibilityService,
             CourseMapper courseMapper,
-            CourseSectionMapper courseSectionMapper
+            CourseSectionMapper courseSectionMapper,
+            @Value("${enrollment.write-batch.await-timeout-ms:10000}") long writeTimeoutMs
     ) {
         this.enrollmentRepositoryPort = enrollmentRepositoryPort;
-        this.courseRepositoryPort = courseRepositoryPort;
+        this.enrollmentWriterPort = enrollmentWriterPort;
         this.courseSectionRepositoryPort = courseSectionRepositoryPort;
-        this.semesterRepositoryPort = semesterRepositoryPort;
-        this.teacherRepositoryPort = teacherRepositoryPort;
-        this.studentRepositoryPort = studentRepositoryPort;
+        this.requestEntityContext = requestEntityContext;
+        this.parallelReads = parallelReads;
         this.courseHistoryRepositoryPort = courseHistoryRepositoryPort;
         this.enrollmentEligibilityService = enrollmentEligibilityService;
         this.courseMapper = courseMapper;
         this.courseSectionMapper = courseSectionMapper;
+        this.writeTimeoutMs = writeTimeoutMs;
     }
 
-    @Transactional
+    /**
+     * The grade level is read from the student record through studentByIdCache, never from the token.
+     * The record only changes outside the application and the cache is not evicted, so a grade change
+     * is enforced once that cache entry expires (at most one hour), not for the token's whole lifetime.
+     */
     public EnrollmentResponseDTO execute(Integer studentId, Integer courseId, Integer sectionId) {
-        Semester activeSemester = semesterRepositoryPort.findActiveSemester()
+        Semester activeSemester = requestEntityContext.activeSemester()
                 .orElseThrow(ActiveSemesterNotFoundException::new);
 
-        Enrollment existingEnrollment = enrollmentRepositoryPort.findByStudentIdAndCourseIdAndSemesterId(
-                        studentId, courseId, activeSemester.getId())
-                .orElse(null);
+        Integer semesterId = activeSemester.getId();
 
+        // A full section only needs the repeated-request check, so skip the other reads
+        if (!courseSectionRepositoryPort.hasAvailableSeat(sectionId)) {
+            Enrollment existingEnrollment = enrollmentRepositoryPort.findByStudentIdAndCourseIdAndSemesterId(
+                            studentId, courseId, semesterId)
+                    .orElseThrow(() -> new CourseSectionFullException(sectionId));
+            return new EnrollmentResponseDTO(
+                    toEnrollmentDto(existingEnrollment, activeSemester)
+            );
+        }
+
+        // Independent reads run concurrently; only the current enrollment sections wait for the enrollments
+        CompletableFuture<Optional<Enrollment>> existingEnrollmentLoad = parallelReads.supply(() ->
+                enrollmentRepositoryPort.findByStudentIdAndCourseIdAndSemesterId(studentId, courseId, semesterId));
+        CompletableFuture<Optional<Student>> studentLoad = parallelReads.supply(() ->
+                requestEntityContext.student(studentId));
+        CompletableFuture<Optional<Course>> courseLoad = parallelReads.supply(() ->
+                requestEntityContext.course(courseId));
+        CompletableFuture<List<CourseSection>> courseSectionsLoad = parallelReads.supply(() ->
+                requestEntityContext.sections(courseId, semesterId));
+        CompletableFuture<List<Enrollment>> currentSemesterEnrollmentsLoad = parallelReads.supply(() ->
+                enrollmentRepositoryPort.findByStudentIdAndSemesterId(studentId, semesterId));
+        CompletableFuture<List<CourseSection>> currentEnrollmentSectionsLoad = parallelReads.supplyAfter(
+                currentSemesterEnrollmentsLoad,
+                enrollments -> findCurrentEnrollmentSections(enrollments, semesterId));
+        CompletableFuture<List<CourseHistory>> courseHistoryLoad = parallelReads.supply(() ->
+                courseHistoryRepositoryPort.findByStudentId(studentId));
+        CompletableFuture<StudentAcademicMetrics> academicMetricsLoad = parallelReads.supply(() ->
+                courseHistoryRepositoryPort.findStudentAcademicMetrics(studentId));
+
+        // Wait for every load before deciding, so none outlives the request
+        CompletableFuture.allOf(
+                existingEnrollmentLoad,
+                studentLoad,
+                courseLoad,
+                courseSectionsLoad,
+                currentEnrollmentSectionsLoad,
+                courseHistoryLoad,
+                academicMetricsLoad
+        ).exceptionally(ignored -> null).join();
+
+        Enrollment existingEnrollment = ParallelReads.join(existingEnrollmentLoad).orElse(null);
         if (existingEnrollment != null) {
             return new EnrollmentResponseDTO(
                     toEnrollmentDto(existingEnrollment, activeSemester)
             );
         }
 
-        Student student = studentRepositoryPort.findById(studentId)
+        Student student = ParallelReads.join(studentLoad)
                 .orElseThrow(() -> new StudentNotFoundException("id: " + studentId));
 
-        Course course = courseRepositoryPort.findById(courseId)
+        Course course = ParallelReads.join(courseLoad)
                 .orElseThrow(() -> new CourseNotFoundException(courseId));
 
-        List<CourseSection> courseSections = courseSectionRepositoryPort.findByCourseIdAndSemesterId(
-                courseId,
-                activeSemester.getId()
-        );
-        CourseSection targetSection = courseSections.stream()
+        CourseSection targetSection = ParallelReads.join(courseSectionsLoad).stream()
                 .filter(section -> Objects.equals(section.getId(), sectionId))
                 .findFirst()
                 .orElseThrow(() -> new CourseSectionNotFoundException(sectionId));
 
-        List<Enrollment> currentSemesterEnrollments = enrollmentRepositoryPort.findByStudentIdAndSemesterId(
-                studentId,
-                activeSemester.getId()
-        );
-        List<CourseHistory> courseHistory = courseHistoryRepositoryPort.findByStudentId(studentId);
-        StudentAcademicMetrics studentAcademicMetrics = courseHistoryRepositoryPort.findStudentAcademicMetrics(studentId);
+        List<Enrollment> currentSemesterEnrollments = ParallelReads.join(currentSemesterEnrollmentsLoad);
+        List<CourseHistory> courseHistory = ParallelReads.join(courseHistoryLoad);
+        StudentAcademicMetrics studentAcademicMetrics = ParallelReads.join(academicMetricsLoad);
         Double earnedCredits = studentAcademicMetrics.getCreditsEarned() == null
                 ? 0.0
                 : studentAcademicMetrics.getCreditsEarned().doubleValue();
-        List<CourseSection> currentEnrollmentSections = findCurrentEnrollmentSections(
-                currentSemesterEnrollments,
-                activeSemester.getId()
-        );
+        List<CourseSection> currentEnrollmentSections = ParallelReads.join(currentEnrollmentSectionsLoad);
 
-        enrollmentEligibilityService.canEnroll(
+        EligibilityResult eligibility = enrollmentEligibilityService.evaluate(
                 student,
                 course,
                 targetSection,
@@ -128,18 +172,33 @@ public class CreateEnrollmentUseCase {
                 courseHistory,
                 currentEnrollmentSections,
                 null,
-                earnedCredits
+                earnedCredits,
+                new EligibilityResult()
         );
+        if (!eligibility.isEligible()) {
+            throw eligibility.getFirstViolation().toException();
+        }
 
-        Enrollment enrollment = enrollmentRepositoryPort.save(
-                new Enrollment(
-                        null,
-                        studentId,
-                        courseId,
-                        sectionId,
-                        activeSemester.getId(),
-                        null
-                ));
+        Enrollment enrollment;
+        try {
+            enrollment = EnrollmentWriterPort.await(enrollmentWriterPort.enroll(
+                    new Enrollment(
+                            null,
+                            studentId,
+                            courseId,
+                            sectionId,
+                            activeSemester.getId(),
+                            null
+                    )), writeTimeoutMs);
+        } catch (DataAccessException exception) {
+            // The SQLite dialect reports unique violations as generic data access errors: if a concurrent
+            // request for the same course won the constraint, answer like a repeated request
+            enrollment = enrollmentRepositoryPort.findByStudentIdAndCourseIdAndSemesterId(
+                            studentId, courseId, activeSemester.getId())
+                    .orElseThrow(() -> exception);
+        }
+        // Validation remembered the sections before the seat was taken
+        requestEntityContext.forgetSections(courseId, activeSemester.getId());
 
         return new EnrollmentResponseDTO(
                 toEnrollmentDto(enrollment, activeSemester)
@@ -168,17 +227,17 @@ public class CreateEnrollmentUseCase {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toCollection(HashSet::new));
 
-        return courseSectionRepositoryPort.findByCourseIdInAndSemesterId(courseIds, semesterId)
+        return requestEntityContext.sections(courseIds, semesterId)
                 .stream()
                 .filter(section -> enrolledSectionIds.contains(section.getId()))
                 .toList();
     }
 
     private EnrollmentDTO toEnrollmentDto(Enrollment enrollment, Semester activeSemester) {
-        Course course = courseRepositoryPort.findById(enrollment.getCourseId())
+        Course course = requestEntityContext.course(enrollment.getCourseId())
                 .orElseThrow(() -> new CourseNotFoundException(enrollment.getCourseId()));
 
-        List<CourseSection> sections = courseSectionRepositoryPort.findByCourseIdAndSemesterId(
+        List<CourseSection> sections = requestEntityContext.sections(
                 enrollment.getCourseId(),
                 activeSemester.getId()
         );
@@ -188,7 +247,7 @@ public class CreateEnrollmentUseCase {
                 .findFirst()
                 .orElseThrow(() -> new CourseSectionNotFoundException(enrollment.getSectionId()));
 
-        Map<Integer, Teacher> teachersById = teacherRepositoryPort.findAllById(List.of(section.getTeacherId()))
+        Map<Integer, Teacher> teachersById = requestEntityContext.teachers(List.of(section.getTeacherId()))
                 .stream()
                 .collect(Collectors.toMap(Teacher::getId, teacher -> teacher));
 
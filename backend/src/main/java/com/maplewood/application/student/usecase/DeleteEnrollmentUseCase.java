@@ -1,5 +1,6 @@
 package com.maplewood.application.student.usecase;
 
+import com.maplewood.application.context.RequestEntityContext;
 import com.maplewood.application.course.dto.CourseDTO;
 import com.maplewood.application.course.mapper.CourseMapper;
 import com.maplewood.application.coursesection.dto.CourseSectionDTO;
@@ -9,63 +10,61 @@ import com.maplewood.application.student.dto.EnrollmentResponseDTO;
 import com.maplewood.application.student.dto.SemesterSummaryDTO;
 import com.maplewood.domain.course.exception.CourseNotFoundException;
 import com.maplewood.domain.course.model.Course;
-import com.maplewood.domain.course.port.CourseRepositoryPort;
 import com.maplewood.domain.coursesection.exception.CourseSectionNotFoundException;
 import com.maplewood.domain.coursesection.model.CourseSection;
-import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
 import com.maplewood.domain.enrollment.exception.EnrollmentEligibilityException;
 import com.maplewood.domain.enrollment.exception.EnrollmentNotFoundException;
 import com.maplewood.domain.enrollment.model.Enrollment;
 import com.maplewood.domain.enrollment.port.EnrollmentRepositoryPort;
+import com.maplewood.domain.enrollment.port.EnrollmentWriterPort;
 import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
 import com.maplewood.domain.semester.exception.ActiveSemesterNotFoundException;
 import com.maplewood.domain.semester.model.Semester;
-import com.maplewood.domain.semester.port.SemesterRepositoryPort;
 import com.maplewood.domain.teacher.model.Teacher;
-import com.maplewood.domain.teacher.port.TeacherRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+/**
+ * Use case: remove the current student's enrollment in a course.
+ * The delete and seat release are handed to EnrollmentWriterPort, which may commit them
+ * together with other students' enrollment writes.
+ */
 @Component
 public class DeleteEnrollmentUseCase {
 
     private final EnrollmentRepositoryPort enrollmentRepositoryPort;
-    private final CourseRepositoryPort courseRepositoryPort;
-    private final CourseSectionRepositoryPort courseSectionRepositoryPort;
-    private final SemesterRepositoryPort semesterRepositoryPort;
-    private final TeacherRepositoryPort teacherRepositoryPort;
+    private final EnrollmentWriterPort enrollmentWriterPort;
+    private final RequestEntityContext requestEntityContext;
     private final EnrollmentEligibilityService enrollmentEligibilityService;
     private final CourseMapper courseMapper;
     private final CourseSectionMapper courseSectionMapper;
+    private final long writeTimeoutMs;
 
     public DeleteEnrollmentUseCase(
             EnrollmentRepositoryPort enrollmentRepositoryPort,
-            CourseRepositoryPort courseRepositoryPort,
-            CourseSectionRepositoryPort courseSectionRepositoryPort,
-            SemesterRepositoryPort semesterRepositoryPort,
-            TeacherRepositoryPort teacherRepositoryPort,
+            EnrollmentWriterPort enrollmentWriterPort,
+            RequestEntityContext requestEntityContext,
             EnrollmentEligibilityService enrollmentEligibilityService,
             CourseMapper courseMapper,
-            CourseSectionMapper courseSectionMapper
+            CourseSectionMapper courseSectionMapper,
+            @Value("${enrollment.write-batch.await-timeout-ms:10000}") long writeTimeoutMs
     ) {
         this.enrollmentRepositoryPort = enrollmentRepositoryPort;
-        this.courseRepositoryPort = courseRepositoryPort;
-        this.courseSectionRepositoryPort = courseSectionRepositoryPort;
-        this.semesterRepositoryPort = semesterRepositoryPort;
-        this.teacherRepositoryPort = teacherRepositoryPort;
+        this.enrollmentWriterPort = enrollmentWriterPort;
+        this.requestEntityContext = requestEntityContext;
         this.enrollmentEligibilityService = enrollmentEligibilityService;
         this.courseMapper = courseMapper;
         this.courseSectionMapper = courseSectionMapper;
+        this.writeTimeoutMs = writeTimeoutMs;
     }
 
-    @Transactional
     public EnrollmentResponseDTO execute(Integer studentId, Integer courseId) {
-        Semester activeSemester = semesterRepositoryPort.findActiveSemester()
+        Semester activeSemester = requestEntityContext.activeSemester()
                 .orElseThrow(ActiveSemesterNotFoundException::new);
 
         Enrollment enrollment = enrollmentRepositoryPort.findByStudentIdAndCourseIdAndSemesterId(
@@ -79,7 +78,7 @@ public class DeleteEnrollmentUseCase {
             );
         }
 
-        enrollmentRepositoryPort.deleteById(enrollment.getId());
+        EnrollmentWriterPort.await(enrollmentWriterPort.unenroll(enrollment), writeTimeoutMs);
 
         return new EnrollmentResponseDTO(
                 toEnrollmentDto(enrollment, activeSemester)
@@ -87,10 +86,10 @@ public class DeleteEnrollmentUseCase {
     }
 
     private EnrollmentDTO toEnrollmentDto(Enrollment enrollment, Semester activeSemester) {
-        Course course = courseRepositoryPort.findById(enrollment.getCourseId())
+        Course course = requestEntityContext.course(enrollment.getCourseId())
                 .orElseThrow(() -> new CourseNotFoundException(enrollment.getCourseId()));
 
-        List<CourseSection> sections = courseSectionRepositoryPort.findByCourseIdAndSemesterId(
+        List<CourseSection> sections = requestEntityContext.sections(
                 enrollment.getCourseId(),
                 activeSemester.getId()
         );
@@ -100,7 +99,7 @@ public class DeleteEnrollmentUseCase {
                 .findFirst()
                 .orElseThrow(() -> new CourseSectionNotFoundException(enrollment.getSectionId()));
 
-        Map<Integer, Teacher> teachersById = teacherRepositoryPort.findAllById(List.of(section.getTeacherId()))
+        Map<Integer, Teacher> teachersById = requestEntityContext.teachers(List.of(section.getTeacherId()))
                 .stream()
                 .collect(Collectors.toMap(Teacher::getId, teacher -> teacher));
 
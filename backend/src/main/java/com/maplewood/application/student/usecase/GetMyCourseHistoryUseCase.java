@@ -57,14 +57,15 @@ public class GetMyCourseHistoryUseCase {
                 .stream()
                 .collect(Collectors.toMap(Course::getId, c -> c));
 
-        Map<Integer, SemesterSummaryDTO> semesterById = historyRows.stream()
+        List<Integer> semesterIds = historyRows.stream()
                 .map(CourseHistory::getSemesterId)
                 .filter(Objects::nonNull)
                 .distinct()
-                .collect(Collectors.toMap(
-                        semesterId -> semesterId,
-                        this::fetchSemesterSummary
-                ));
+                .toList();
+
+        Map<Integer, SemesterSummaryDTO> semesterById = semesterRepositoryPort.findAllById(semesterIds)
+                .stream()
+                .collect(Collectors.toMap(Semester::getId, this::toSemesterSummary));
 
         List<CourseHistoryDTO> items = historyRows.stream()
                 .map(row -> toCourseHistoryDTO(row, coursesById, semesterById))
@@ -101,10 +102,7 @@ public class GetMyCourseHistoryUseCase {
         );
     }
 
-    private SemesterSummaryDTO fetchSemesterSummary(Integer semesterId) {
-        Semester semester = semesterRepositoryPort.findById(semesterId)
-                .orElseThrow(() -> new SemesterNotFoundException(semesterId));
-
+    private SemesterSummaryDTO toSemesterSummary(Semester semester) {
         return new SemesterSummaryDTO(
                 semester.getId(),
                 semester.getName(),
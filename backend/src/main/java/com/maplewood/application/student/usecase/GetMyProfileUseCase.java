@@ -1,5 +1,6 @@
 package com.maplewood.application.student.usecase;
 
+import com.maplewood.application.context.ParallelReads;
 import com.maplewood.application.student.dto.CreditsDTO;
 import com.maplewood.application.student.dto.OptionsDTO;
 import com.maplewood.application.student.dto.SemesterSummaryDTO;
@@ -13,7 +14,9 @@ import com.maplewood.domain.student.model.StudentAcademicMetrics;
 import com.maplewood.domain.student.model.Student;
 import com.maplewood.domain.student.port.StudentRepositoryPort;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 public class GetMyProfileUseCase {
@@ -24,23 +27,38 @@ public class GetMyProfileUseCase {
     private final StudentRepositoryPort studentRepositoryPort;
     private final CourseHistoryRepositoryPort courseHistoryRepositoryPort;
     private final SemesterRepositoryPort semesterRepositoryPort;
+    private final ParallelReads parallelReads;
 
     public GetMyProfileUseCase(
             StudentRepositoryPort studentRepositoryPort,
             CourseHistoryRepositoryPort courseHistoryRepositoryPort,
-            SemesterRepositoryPort semesterRepositoryPort
+            SemesterRepositoryPort semesterRepositoryPort,
+            ParallelReads parallelReads
     ) {
         this.studentRepositoryPort = studentRepositoryPort;
         this.courseHistoryRepositoryPort = courseHistoryRepositoryPort;
         this.semesterRepositoryPort = semesterRepositoryPort;
+        this.parallelReads = parallelReads;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * The student and the academic metrics (an uncached aggregate over the course history) load concurrently,
+     * each in its own read-only transaction; the active semester is a cache hit and is read meanwhile.
+     */
     public StudentProfileResponseDTO execute(Integer studentId) {
-        Student student = studentRepositoryPort.findById(studentId)
+        CompletableFuture<Optional<Student>> studentLoad = parallelReads.supply(() ->
+                studentRepositoryPort.findById(studentId));
+        CompletableFuture<StudentAcademicMetrics> academicMetricsLoad = parallelReads.supply(() ->
+                courseHistoryRepositoryPort.findStudentAcademicMetrics(studentId));
+        Optional<Semester> currentSemester = semesterRepositoryPort.findActiveSemester();
+        CompletableFuture.allOf(studentLoad, academicMetricsLoad)
+                .exceptionally(ignored -> null)
+                .join();
+
+        Student student = ParallelReads.join(studentLoad)
                 .orElseThrow(() -> new StudentNotFoundException("id: " + studentId));
-        StudentAcademicMetrics studentAcademicMetrics = courseHistoryRepositoryPort.findStudentAcademicMetrics(studentId);
-        SemesterSummaryDTO activeSemester = semesterRepositoryPort.findActiveSemester()
+        StudentAcademicMetrics studentAcademicMetrics = ParallelReads.join(academicMetricsLoad);
+        SemesterSummaryDTO activeSemester = currentSemester
                 .map(this::toSemesterSummary)
                 .orElse(null);
 
@@ -0,0 +1,77 @@
+package com.maplewood.application.version;
+
+import com.maplewood.domain.course.event.CourseChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsSettledEvent;
+import com.maplewood.domain.enrollment.event.EnrollmentChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data-version counters used to build ETags without rendering the response.
+ *
+ * - catalog: bumped after every committed seat or course change (enrolledCount is part of course payloads),
+ *   and again when the seats settle, since a response rendered in between may carry the previous counts
+ * - student enrollments: stamped from a global sequence after each committed enrollment change
+ * - reference data (semesters, history, profiles) has no write path in the application,
+ *   so it is versioned by a time bucket of data-version.reference-max-age to pick up external edits
+ *
+ * Every version is prefixed with the startup time, so counters restarting at zero never reuse an old ETag.
+ * With several nodes, DataChangeBroadcaster replays the changes committed on other nodes as local events,
+ * so these counters also move for them.
+ * Part of Application Layer
+ */
+@Component
+public class DataVersionTracker {
+
+    private final long epoch = System.currentTimeMillis();
+    private final long referenceMaxAgeMs;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong enrollmentSequence = new AtomicLong();
+    private final Map<Integer, Long> enrollmentVersionByStudentId = new ConcurrentHashMap<>();
+
+    public DataVersionTracker(@Value("${data-version.reference-max-age:PT15M}") Duration referenceMaxAge) {
+        this.referenceMaxAgeMs = Math.max(1, referenceMaxAge.toMillis());
+    }
+
+    public String referenceVersion() {
+        return epoch + "." + System.currentTimeMillis() / referenceMaxAgeMs;
+    }
+
+    public String catalogVersion() {
+        return referenceVersion() + "." + catalogVersion.get();
+    }
+
+    public String enrollmentVersion(Integer studentId) {
+        return catalogVersion() + "." + enrollmentVersionByStudentId.getOrDefault(studentId, 0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsChanged(SectionSeatsChangedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsSettled(SectionSeatsSettledEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (event.studentId() != null) {
+            enrollmentVersionByStudentId.put(event.studentId(), enrollmentSequence.incrementAndGet());
+        }
+    }
+}
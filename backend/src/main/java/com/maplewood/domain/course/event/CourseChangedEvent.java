@@ -0,0 +1,7 @@
+package com.maplewood.domain.course.event;
+
+/**
+ * Published when a catalog course was saved or deleted.
+ */
+public record CourseChangedEvent(Integer courseId) {
+}
@@ -0,0 +1,49 @@
+package com.maplewood.domain.course.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters, sort and keyset position for a course search.
+ * Null filters are not applied. Results start strictly after (afterSortValue, afterId) when both are set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSearchCriteria {
+
+    /**
+     * Only courses open to this grade level (gradeLevelMin <= gradeLevel <= gradeLevelMax)
+     */
+    private Integer gradeLevel;
+
+    private CourseType courseType;
+
+    private Integer specializationId;
+
+    private SemesterOrder semesterOrder;
+
+    /**
+     * Only courses with at least one section with a free seat in openSeatsSemesterId
+     */
+    private boolean onlyWithOpenSeats;
+
+    private Integer openSeatsSemesterId;
+
+    /**
+     * Case-insensitive substring of the course code or name
+     */
+    private String text;
+
+    @Builder.Default
+    private CourseSortField sort = CourseSortField.CODE;
+
+    private String afterSortValue;
+
+    private Integer afterId;
+
+    private int limit;
+}
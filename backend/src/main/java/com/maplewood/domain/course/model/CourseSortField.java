@@ -0,0 +1,32 @@
+package com.maplewood.domain.course.model;
+
+/**
+ * Sort keys supported by course search. Every sort is ascending with the course id as tie-breaker,
+ * which makes (sort value, id) a stable keyset cursor.
+ */
+public enum CourseSortField {
+    CODE("code"),
+    NAME("name");
+
+    private final String value;
+
+    CourseSortField(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static CourseSortField fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return CODE;
+        }
+        for (CourseSortField field : CourseSortField.values()) {
+            if (field.value.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + value + ". Use one of: code, name");
+    }
+}
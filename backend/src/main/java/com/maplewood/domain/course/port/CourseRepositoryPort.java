@@ -1,6 +1,7 @@
 package com.maplewood.domain.course.port;
 
 import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.model.CourseSearchCriteria;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +21,11 @@ public interface CourseRepositoryPort {
      * Find all courses by their IDs (batch loading)
      */
     List<Course> findAllById(List<Integer> ids);
+
+    /**
+     * Filter, sort and page courses in the database, returning at most criteria.limit courses
+     */
+    List<Course> search(CourseSearchCriteria criteria);
     
     Course save(Course course);
     
@@ -0,0 +1,19 @@
+package com.maplewood.domain.coursesection.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when the enrolled count of one or more course sections changed.
+ * Listeners that derive data from section seats (e.g. the course catalog snapshot) drop it on this event.
+ */
+public record SectionSeatsChangedEvent(List<Integer> sectionIds) {
+
+    public SectionSeatsChangedEvent(Collection<Integer> sectionIds) {
+        this(List.copyOf(sectionIds));
+    }
+
+    public static SectionSeatsChangedEvent of(Integer sectionId) {
+        return new SectionSeatsChangedEvent(List.of(sectionId));
+    }
+}
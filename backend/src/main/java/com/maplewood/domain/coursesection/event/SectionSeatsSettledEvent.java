@@ -0,0 +1,16 @@
+package com.maplewood.domain.coursesection.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published a short while after a SectionSeatsChangedEvent, once reads that started before the change
+ * have finished and whatever they cached from the previous seat counts has been dropped again.
+ * Listeners that derive data from section seats drop it once more on this event.
+ */
+public record SectionSeatsSettledEvent(List<Integer> sectionIds) {
+
+    public SectionSeatsSettledEvent(Collection<Integer> sectionIds) {
+        this(List.copyOf(sectionIds));
+    }
+}
@@ -0,0 +1,11 @@
+package com.maplewood.domain.coursesection.exception;
+
+/**
+ * Exception thrown when a course section has no remaining seats.
+ */
+public class CourseSectionFullException extends RuntimeException {
+
+    public CourseSectionFullException(Integer sectionId) {
+        super("Course section is full for sectionId: " + sectionId);
+    }
+}
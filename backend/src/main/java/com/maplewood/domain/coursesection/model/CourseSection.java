@@ -57,6 +57,22 @@ public class CourseSection {
      */
     private List<MeetingTime> meetingTimes;
 
+    /**
+     * Precomputed weekly occupancy bitmap for the meeting times, used for conflict detection
+     */
+    private WeeklyOccupancy occupancy;
+
+    /**
+     * Seats still available in this section (never negative)
+     */
+    public Integer getRemainingSeats() {
+        if (capacity == null) {
+            return null;
+        }
+        int enrolled = enrolledCount == null ? 0 : enrolledCount;
+        return Math.max(capacity - enrolled, 0);
+    }
+
     /**
      * Value object representing a meeting time
      */
@@ -0,0 +1,128 @@
+package com.maplewood.domain.coursesection.model;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable weekly occupancy bitmap for a course section.
+ * Each DayOfWeek owns 23 64-bit words where every bit represents one minute of the day,
+ * so two schedules overlap when any pair of words shares a set bit.
+ *
+ * A meeting occupies the minutes from its start (inclusive) to its end (exclusive), which gives the same
+ * answer as comparing the intervals: back-to-back meetings ("09:00"-"09:02" and "09:02"-"09:30") never conflict.
+ * Part of Domain Layer
+ */
+public final class WeeklyOccupancy {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int WORDS_PER_DAY = (MINUTES_PER_DAY + 63) / 64;
+
+    private static final DateTimeFormatter MEETING_TIME = DateTimeFormatter.ofPattern("H:mm[:ss]");
+    private static final String END_OF_DAY = "24:00";
+    private static final int DAYS = DayOfWeek.values().length;
+
+    public static final WeeklyOccupancy EMPTY = new WeeklyOccupancy(new long[DAYS * WORDS_PER_DAY]);
+
+    private final long[] words;
+    private final boolean empty;
+
+    private WeeklyOccupancy(long[] words) {
+        this.words = words;
+        this.empty = Arrays.stream(words).allMatch(word -> word == 0L);
+    }
+
+    /**
+     * Build the occupancy bitmap for a list of meeting times.
+     * Meetings with a missing day or an unparseable time are ignored, matching the
+     * previous behaviour where such meetings never produced a conflict.
+     */
+    public static WeeklyOccupancy of(List<CourseSection.MeetingTime> meetingTimes) {
+        if (meetingTimes == null || meetingTimes.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] words = new long[DAYS * WORDS_PER_DAY];
+        for (CourseSection.MeetingTime meetingTime : meetingTimes) {
+            if (meetingTime == null || meetingTime.getDayOfWeek() == null) {
+                continue;
+            }
+            int startMinute = toMinuteOfDay(meetingTime.getStartTime());
+            int endMinute = toMinuteOfDay(meetingTime.getEndTime());
+            if (startMinute < 0 || endMinute < 0 || endMinute <= startMinute) {
+                continue;
+            }
+
+            int lastMinute = Math.min(endMinute, MINUTES_PER_DAY);
+            int dayOffset = meetingTime.getDayOfWeek().ordinal() * WORDS_PER_DAY;
+            for (int minute = startMinute; minute < lastMinute; minute++) {
+                words[dayOffset + (minute >>> 6)] |= 1L << minute;
+            }
+        }
+        return new WeeklyOccupancy(words);
+    }
+
+    /**
+     * Whether any minute is occupied by both schedules.
+     */
+    public boolean overlaps(WeeklyOccupancy other) {
+        if (other == null || empty || other.empty) {
+            return false;
+        }
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Parse "H:mm" or "HH:mm" (optionally with seconds, which are dropped) into minutes since midnight.
+     * Only runs when a section is loaded; the bitmap is what the eligibility checks read.
+     *
+     * @return minute of day, or -1 when the value is not a valid time
+     */
+    static int toMinuteOfDay(String time) {
+        if (time == null) {
+            return -1;
+        }
+        String trimmed = time.trim();
+        if (END_OF_DAY.equals(trimmed)) {
+            return MINUTES_PER_DAY;
+        }
+        try {
+            LocalTime parsed = LocalTime.parse(trimmed, MEETING_TIME);
+            return parsed.getHour() * 60 + parsed.getMinute();
+        } catch (DateTimeParseException exception) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WeeklyOccupancy other)) {
+            return false;
+        }
+        return Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "WeeklyOccupancy" + Arrays.toString(words);
+    }
+}
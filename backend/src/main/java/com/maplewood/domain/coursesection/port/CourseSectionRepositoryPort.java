@@ -20,4 +20,23 @@ public interface CourseSectionRepositoryPort {
      * Find all course sections for multiple courses in a specific semester (batch loading)
      */
     List<CourseSection> findByCourseIdInAndSemesterId(List<Integer> courseIds, Integer semesterId);
+
+    /**
+     * Cheap pre-check used to reject full sections before any other work.
+     * May return true for a section that is already full; reserveSeat stays the authority.
+     */
+    boolean hasAvailableSeat(Integer sectionId);
+
+    /**
+     * Atomically reserve one seat in a section if it still has capacity.
+     * Must run in the same transaction as the enrollment insert.
+     *
+     * @return true when a seat was reserved, false when the section is full
+     */
+    boolean reserveSeat(Integer sectionId);
+
+    /**
+     * Release one previously reserved seat in a section.
+     */
+    void releaseSeat(Integer sectionId);
 }
@@ -0,0 +1,7 @@
+package com.maplewood.domain.enrollment.event;
+
+/**
+ * Published after a student's enrollment was created or deleted.
+ */
+public record EnrollmentChangedEvent(Integer studentId, Integer courseId) {
+}
@@ -1,18 +1,22 @@
 package com.maplewood.domain.enrollment.exception;
 
+/**
+ * Exception thrown when a student is not eligible to enroll.
+ * Rejections are an expected outcome, so no stack trace is captured.
+ */
 public class EnrollmentEligibilityException extends RuntimeException {
 
     private final String type;
     private final CoursePrerequisite prerequisite;
 
     public EnrollmentEligibilityException(String type, String message) {
-        super(message);
+        super(message, null, false, false);
         this.type = type;
         this.prerequisite = null;
     }
 
     public EnrollmentEligibilityException(String type, String message, CoursePrerequisite prerequisite) {
-        super(message);
+        super(message, null, false, false);
         this.type = type;
         this.prerequisite = prerequisite;
     }
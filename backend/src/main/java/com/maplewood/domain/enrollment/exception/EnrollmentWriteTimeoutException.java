@@ -0,0 +1,13 @@
+package com.maplewood.domain.enrollment.exception;
+
+/**
+ * Exception thrown when an enrollment write is not confirmed within the allowed wait.
+ * The write may still be committed later.
+ */
+public class EnrollmentWriteTimeoutException extends RuntimeException {
+
+    public EnrollmentWriteTimeoutException(long timeoutMs) {
+        super("Enrollment write was not confirmed within %d ms, check your enrollments before retrying"
+                .formatted(timeoutMs));
+    }
+}
@@ -0,0 +1,44 @@
+package com.maplewood.domain.enrollment.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of evaluating every enrollment eligibility rule for one section.
+ * Violations are kept in rule priority order, so the first one is what canEnroll would throw.
+ *
+ * Instances are reusable: EnrollmentEligibilityService.evaluate clears the result before filling it,
+ * so a caller evaluating many sections can keep a single instance. Not thread-safe.
+ */
+public class EligibilityResult {
+
+    private final List<EligibilityViolation> violations = new ArrayList<>(4);
+    private final List<EligibilityViolation> readOnlyViolations = Collections.unmodifiableList(violations);
+
+    public boolean isEligible() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Failed rules in priority order (live view, changes when the result is reused).
+     */
+    public List<EligibilityViolation> getViolations() {
+        return readOnlyViolations;
+    }
+
+    /**
+     * Highest priority failed rule, or null when eligible.
+     */
+    public EligibilityViolation getFirstViolation() {
+        return violations.isEmpty() ? null : violations.get(0);
+    }
+
+    public void clear() {
+        violations.clear();
+    }
+
+    public void add(EligibilityViolation violation) {
+        violations.add(violation);
+    }
+}
@@ -0,0 +1,54 @@
+package com.maplewood.domain.enrollment.model;
+
+import com.maplewood.domain.enrollment.exception.EnrollmentEligibilityException;
+
+/**
+ * Immutable value object describing a single failed enrollment eligibility rule.
+ * Type values match the reason codes exposed by EnrollmentEligibilityException.
+ */
+public final class EligibilityViolation {
+
+    public static final String TYPE_OTHER = "other";
+    public static final String TYPE_MAX_COURSES = "max_courses";
+    public static final String TYPE_GRADE_LEVEL = "grade_level";
+    public static final String TYPE_PREREQUISITE = "prerequisite";
+    public static final String TYPE_CONFLICT = "conflict";
+    public static final String TYPE_SECTION_FULL = "section_full";
+
+    private final String type;
+    private final String message;
+    private final EnrollmentEligibilityException.CoursePrerequisite prerequisite;
+
+    public EligibilityViolation(String type, String message) {
+        this(type, message, null);
+    }
+
+    public EligibilityViolation(
+            String type,
+            String message,
+            EnrollmentEligibilityException.CoursePrerequisite prerequisite
+    ) {
+        this.type = type;
+        this.message = message;
+        this.prerequisite = prerequisite;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public EnrollmentEligibilityException.CoursePrerequisite getPrerequisite() {
+        return prerequisite;
+    }
+
+    /**
+     * Convert this violation into the exception thrown at the HTTP boundary.
+     */
+    public EnrollmentEligibilityException toException() {
+        return new EnrollmentEligibilityException(type, message, prerequisite);
+    }
+}
@@ -0,0 +1,46 @@
+package com.maplewood.domain.enrollment.port;
+
+import com.maplewood.domain.enrollment.exception.EnrollmentWriteTimeoutException;
+import com.maplewood.domain.enrollment.model.Enrollment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Port for enrollment writes.
+ * Implementations may commit several callers' writes together in one transaction,
+ * so callers must not hold an open transaction while waiting on the returned future.
+ */
+public interface EnrollmentWriterPort {
+
+    /**
+     * Reserve a seat in the enrollment's section and insert the enrollment.
+     * Completes exceptionally with CourseSectionFullException when no seat is left.
+     */
+    CompletableFuture<Enrollment> enroll(Enrollment enrollment);
+
+    /**
+     * Delete an existing enrollment and release its seat.
+     */
+    CompletableFuture<Enrollment> unenroll(Enrollment enrollment);
+
+    /**
+     * Wait at most timeoutMs for a write, rethrowing what the writer failed with (e.g. CourseSectionFullException) as is.
+     * Throws EnrollmentWriteTimeoutException when the wait runs out; the write may still be committed later.
+     */
+    static Enrollment await(CompletableFuture<Enrollment> write, long timeoutMs) {
+        try {
+            return write.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof TimeoutException) {
+                throw new EnrollmentWriteTimeoutException(timeoutMs);
+            }
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
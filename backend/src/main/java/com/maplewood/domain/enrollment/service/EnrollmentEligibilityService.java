@@ -3,7 +3,10 @@ package com.maplewood.domain.enrollment.service;
 import com.maplewood.domain.course.model.Course;
 import com.maplewood.domain.coursehistory.model.CourseHistory;
 import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.model.WeeklyOccupancy;
 import com.maplewood.domain.enrollment.exception.EnrollmentEligibilityException;
+import com.maplewood.domain.enrollment.model.EligibilityResult;
+import com.maplewood.domain.enrollment.model.EligibilityViolation;
 import com.maplewood.domain.enrollment.model.Enrollment;
 import com.maplewood.domain.semester.model.Semester;
 import com.maplewood.domain.student.model.Student;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Component
 public class EnrollmentEligibilityService {
@@ -19,6 +23,29 @@ public class EnrollmentEligibilityService {
     private static final double REQUIRED_GRADUATION_CREDITS = 30.0;
     private static final String PASSED_STATUS = "passed";
 
+    private static final EligibilityViolation NOT_ACTIVE_SEMESTER = new EligibilityViolation(
+            EligibilityViolation.TYPE_OTHER,
+            "Enrollment can only be performed in the active semester."
+    );
+    private static final EligibilityViolation DEFAULT_MAX_COURSES_REACHED =
+            maxCoursesReached(DEFAULT_MAX_COURSES_PER_SEMESTER);
+    private static final EligibilityViolation ALREADY_PASSED = new EligibilityViolation(
+            EligibilityViolation.TYPE_OTHER,
+            "You have already passed this course."
+    );
+    private static final EligibilityViolation GRADUATION_CREDITS_REACHED = new EligibilityViolation(
+            EligibilityViolation.TYPE_OTHER,
+            "You have already reached the required graduation credits."
+    );
+    private static final EligibilityViolation GRADE_LEVEL_NOT_ELIGIBLE = new EligibilityViolation(
+            EligibilityViolation.TYPE_GRADE_LEVEL,
+            "Your grade level is not eligible for this course."
+    );
+    private static final EligibilityViolation SCHEDULE_CONFLICT = new EligibilityViolation(
+            EligibilityViolation.TYPE_CONFLICT,
+            "This course conflicts with your current schedule."
+    );
+
     public boolean canUnroll(Enrollment enrollment, Semester activeSemester) {
         if (enrollment == null || activeSemester == null || activeSemester.getId() == null) {
             return false;
@@ -27,6 +54,11 @@ public class EnrollmentEligibilityService {
         return Objects.equals(enrollment.getSemesterId(), activeSemester.getId());
     }
 
+    /**
+     * Evaluate enrollment eligibility and throw on the highest priority failed rule.
+     *
+     * @throws EnrollmentEligibilityException when any rule fails
+     */
     public boolean canEnroll(
             Student student,
             Course course,
@@ -38,39 +70,65 @@ public class EnrollmentEligibilityService {
             Integer maxCoursesPerSemester,
             Double earnedCredits
     ) {
+        EligibilityResult result = evaluate(
+                student,
+                course,
+                targetSection,
+                activeSemester,
+                currentSemesterEnrollments,
+                courseHistory,
+                currentEnrollmentSections,
+                maxCoursesPerSemester,
+                earnedCredits,
+                new EligibilityResult()
+        );
+        if (!result.isEligible()) {
+            throw result.getFirstViolation().toException();
+        }
+        return true;
+    }
+
+    /**
+     * Evaluate every enrollment eligibility rule without throwing.
+     * The given result is cleared and filled with all failed rules in priority order.
+     *
+     * @return the same result instance, for chaining
+     */
+    public EligibilityResult evaluate(
+            Student student,
+            Course course,
+            CourseSection targetSection,
+            Semester activeSemester,
+            List<Enrollment> currentSemesterEnrollments,
+            List<CourseHistory> courseHistory,
+            List<CourseSection> currentEnrollmentSections,
+            Integer maxCoursesPerSemester,
+            Double earnedCredits,
+            EligibilityResult result
+    ) {
+        result.clear();
+
         if (!isCurrentSemesterEnrollment(targetSection, activeSemester)) {
-            throw new EnrollmentEligibilityException(
-                    "other",
-                    "Enrollment can only be performed in the active semester."
-            );
+            result.add(NOT_ACTIVE_SEMESTER);
         }
 
         if (hasReachedEnrollmentLimit(currentSemesterEnrollments, maxCoursesPerSemester)) {
             int maxCourses = maxCoursesPerSemester == null ? DEFAULT_MAX_COURSES_PER_SEMESTER : maxCoursesPerSemester;
-            throw new EnrollmentEligibilityException(
-                    "max_courses",
-                    "You have reached the maximum limit of " + maxCourses + " enrollments."
-            );
+            result.add(maxCourses == DEFAULT_MAX_COURSES_PER_SEMESTER
+                    ? DEFAULT_MAX_COURSES_REACHED
+                    : maxCoursesReached(maxCourses));
         }
 
         if (hasAlreadyPassedCourse(course, courseHistory)) {
-            throw new EnrollmentEligibilityException(
-                    "other",
-                    "You have already passed this course."
-            );
+            result.add(ALREADY_PASSED);
         }
 
         if (hasReachedGraduationCredits(earnedCredits)) {
-            throw new EnrollmentEligibilityException(
-                    "other",
-                    "You have already reached the required graduation credits.");
+            result.add(GRADUATION_CREDITS_REACHED);
         }
 
         if (!isStudentGradeLevelEligible(student, course)) {
-            throw new EnrollmentEligibilityException(
-                    "grade_level",
-                    "Your grade level is not eligible for this course."
-            );
+            result.add(GRADE_LEVEL_NOT_ELIGIBLE);
         }
 
         if (!hasPassedPrerequisite(course, courseHistory)) {
@@ -82,21 +140,52 @@ public class EnrollmentEligibilityService {
                         null
                 );
             }
-            throw new EnrollmentEligibilityException(
-                    "prerequisite",
+            result.add(new EligibilityViolation(
+                    EligibilityViolation.TYPE_PREREQUISITE,
                     "Missing prerequisite for enrollment.",
                     prerequisite
-            );
+            ));
         }
 
         if (hasScheduleOverlap(targetSection, currentEnrollmentSections)) {
-            throw new EnrollmentEligibilityException(
-                    "conflict",
-                    "This course conflicts with your current schedule."
-            );
+            result.add(SCHEDULE_CONFLICT);
         }
 
-        return true;
+        return result;
+    }
+
+    /**
+     * Re-evaluate only the rules that depend on the student's other enrollments of the semester
+     * (enrollment limit, then schedule conflict), against the enrollments as they are at write time.
+     * Two concurrent requests of one student can both pass evaluate; the writer runs this before inserting.
+     *
+     * @param currentSemesterEnrollments the student's other enrollments of the semester, excluding the target course
+     * @param currentEnrollmentSections  the sections of those enrollments
+     * @return the first failed rule, if any
+     */
+    public Optional<EligibilityViolation> recheckAgainstCurrentEnrollments(
+            CourseSection targetSection,
+            List<Enrollment> currentSemesterEnrollments,
+            List<CourseSection> currentEnrollmentSections,
+            Integer maxCoursesPerSemester
+    ) {
+        if (hasReachedEnrollmentLimit(currentSemesterEnrollments, maxCoursesPerSemester)) {
+            int maxCourses = maxCoursesPerSemester == null ? DEFAULT_MAX_COURSES_PER_SEMESTER : maxCoursesPerSemester;
+            return Optional.of(maxCourses == DEFAULT_MAX_COURSES_PER_SEMESTER
+                    ? DEFAULT_MAX_COURSES_REACHED
+                    : maxCoursesReached(maxCourses));
+        }
+        if (hasScheduleOverlap(targetSection, currentEnrollmentSections)) {
+            return Optional.of(SCHEDULE_CONFLICT);
+        }
+        return Optional.empty();
+    }
+
+    private static EligibilityViolation maxCoursesReached(int maxCourses) {
+        return new EligibilityViolation(
+                EligibilityViolation.TYPE_MAX_COURSES,
+                "You have reached the maximum limit of " + maxCourses + " enrollments."
+        );
     }
 
     private boolean hasReachedGraduationCredits(Double earnedCredits) {
@@ -172,58 +261,27 @@ public class EnrollmentEligibilityService {
     }
 
     private boolean hasScheduleOverlap(CourseSection targetSection, List<CourseSection> currentEnrollmentSections) {
-        if (targetSection == null || targetSection.getMeetingTimes() == null || targetSection.getMeetingTimes().isEmpty()) {
+        if (targetSection == null || currentEnrollmentSections == null || currentEnrollmentSections.isEmpty()) {
             return false;
         }
-        if (currentEnrollmentSections == null || currentEnrollmentSections.isEmpty()) {
-            return false;
-        }
-
-        return currentEnrollmentSections.stream()
-                .filter(Objects::nonNull)
-                .map(CourseSection::getMeetingTimes)
-                .filter(Objects::nonNull)
-                .anyMatch(enrolledMeetingTimes ->
-                        targetSection.getMeetingTimes().stream()
-                                .anyMatch(targetMeeting ->
-                                        enrolledMeetingTimes.stream()
-                                                .anyMatch(enrolledMeeting -> overlaps(targetMeeting, enrolledMeeting))
-                                )
-                );
-    }
 
-    private boolean overlaps(CourseSection.MeetingTime first, CourseSection.MeetingTime second) {
-        if (first == null || second == null) {
-            return false;
-        }
-        if (first.getDayOfWeek() == null || second.getDayOfWeek() == null) {
-            return false;
-        }
-        if (!Objects.equals(first.getDayOfWeek(), second.getDayOfWeek())) {
+        WeeklyOccupancy targetOccupancy = occupancyOf(targetSection);
+        if (targetOccupancy.isEmpty()) {
             return false;
         }
 
-        Integer startFirst = toTimeNumber(first.getStartTime());
-        Integer endFirst = toTimeNumber(first.getEndTime());
-        Integer startSecond = toTimeNumber(second.getStartTime());
-        Integer endSecond = toTimeNumber(second.getEndTime());
-
-        if (startFirst == null || endFirst == null || startSecond == null || endSecond == null) {
-            return false;
+        for (CourseSection enrolledSection : currentEnrollmentSections) {
+            if (enrolledSection != null && targetOccupancy.overlaps(occupancyOf(enrolledSection))) {
+                return true;
+            }
         }
-
-        return startFirst < endSecond && endFirst > startSecond;
+        return false;
     }
 
-    private Integer toTimeNumber(String time) {
-        if (time == null || !time.contains(":")) {
-            return null;
-        }
-        String normalizedTime = time.replace(":", "");
-        try {
-            return Integer.parseInt(normalizedTime);
-        } catch (NumberFormatException exception) {
-            return null;
+    private WeeklyOccupancy occupancyOf(CourseSection section) {
+        if (section.getOccupancy() != null) {
+            return section.getOccupancy();
         }
+        return WeeklyOccupancy.of(section.getMeetingTimes());
     }
 }
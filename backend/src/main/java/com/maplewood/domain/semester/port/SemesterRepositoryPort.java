@@ -2,6 +2,7 @@ package com.maplewood.domain.semester.port;
 
 import com.maplewood.domain.semester.model.Semester;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,7 +13,12 @@ import java.util.Optional;
 public interface SemesterRepositoryPort {
 
     Optional<Semester> findById(Integer id);
-    
+
+    /**
+     * Find all semesters by their IDs (batch loading)
+     */
+    List<Semester> findAllById(List<Integer> ids);
+
     /**
      * Find the active semester
      */
@@ -30,4 +30,15 @@ public class Student {
     private String status;
 
     private Instant createdAt;
+
+    /**
+     * A student known only by id and grade level, as carried by the authentication:
+     * enough for the enrollment eligibility rules, which only read the grade level.
+     */
+    public static Student withGradeLevel(Integer id, Integer gradeLevel) {
+        Student student = new Student();
+        student.setId(id);
+        student.setGradeLevel(gradeLevel);
+        return student;
+    }
 }
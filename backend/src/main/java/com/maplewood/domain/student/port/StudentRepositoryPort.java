@@ -2,6 +2,7 @@ package com.maplewood.domain.student.port;
 
 import com.maplewood.domain.student.model.Student;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +19,9 @@ public interface StudentRepositoryPort {
      * Find student by email.
      */
     Optional<Student> findByEmail(String email);
+
+    /**
+     * Find all students.
+     */
+    List<Student> findAll();
 }
@@ -21,4 +21,9 @@ public interface TeacherRepositoryPort {
      * Find all teachers by their IDs (batch loading)
      */
     List<Teacher> findAllById(List<Integer> ids);
+
+    /**
+     * Find all teachers
+     */
+    List<Teacher> findAll();
 }
@@ -0,0 +1,25 @@
+package com.maplewood.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts CacheInvalidationMessages and DataChangeMessages to every node (Redis pub/sub, a message broker, ...).
+ * InProcessCacheInvalidationBus is the in-process stand-in.
+ * Part of Infrastructure Layer
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    /**
+     * Subscribers also receive the messages published by their own node.
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> subscriber);
+
+    void publish(DataChangeMessage message);
+
+    /**
+     * Subscribers also receive the messages published by their own node.
+     */
+    void subscribeToDataChanges(Consumer<DataChangeMessage> subscriber);
+}
@@ -0,0 +1,135 @@
+package com.maplewood.infrastructure.cache;
+
+import com.maplewood.domain.course.event.CourseChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsSettledEvent;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.infrastructure.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evicts exactly the cache entries affected by a committed domain change, so TTLs only bound external edits.
+ *
+ * - SectionSeatsChangedEvent: every cached section list containing one of the changed sections
+ * - CourseChangedEvent: that course by id and the full course list
+ *
+ * Runs after commit and before any other listener of the same event, so derived data
+ * (catalog snapshot, ETag versions) is never rebuilt from an entry that is about to be evicted.
+ * With two-tier caches the entries are evicted from the shared tier too and on every other node.
+ * A read that started before the commit can still re-cache the previous seat counts, so the section lists
+ * are evicted a second time once cache.invalidation.settle-delay has passed, and a SectionSeatsSettledEvent
+ * then tells the derived data to rebuild from the corrected entries.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+
+    private static final List<String> SECTION_LIST_CACHES = List.of(
+            CacheConfig.SECTIONS_BY_COURSE_SEMESTER_CACHE,
+            CacheConfig.SECTIONS_BY_COURSES_SEMESTER_CACHE
+    );
+
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long settleDelayNanos;
+
+    private final Map<Integer, Long> settleDueNanosBySectionId = new ConcurrentHashMap<>();
+
+    public CacheInvalidationListener(
+            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${cache.invalidation.settle-delay:PT5S}") Duration settleDelay) {
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.settleDelayNanos = settleDelay.toNanos();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsChanged(SectionSeatsChangedEvent event) {
+        Set<Integer> sectionIds = new HashSet<>(event.sectionIds());
+        evictSectionLists(sectionIds);
+        // A later change postpones the second eviction, so one pass covers a burst of enrollments
+        long settleDueNanos = System.nanoTime() + settleDelayNanos;
+        sectionIds.forEach(sectionId -> settleDueNanosBySectionId.put(sectionId, settleDueNanos));
+        log.debug("Evicted cached section lists for {} changed sections", sectionIds.size());
+    }
+
+    /**
+     * Second eviction for the sections whose settle delay has passed, dropping lists re-cached by in-flight reads.
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.settle-check-interval-ms:1000}")
+    public void evictSettledSections() {
+        long now = System.nanoTime();
+        Set<Integer> settledSectionIds = new HashSet<>();
+        settleDueNanosBySectionId.forEach((sectionId, dueNanos) -> {
+            if (now - dueNanos >= 0 && settleDueNanosBySectionId.remove(sectionId, dueNanos)) {
+                settledSectionIds.add(sectionId);
+            }
+        });
+        if (settledSectionIds.isEmpty()) {
+            return;
+        }
+
+        evictSectionLists(settledSectionIds);
+        eventPublisher.publishEvent(new SectionSeatsSettledEvent(settledSectionIds));
+        log.debug("Evicted cached section lists again for {} settled sections", settledSectionIds.size());
+    }
+
+    private void evictSectionLists(Set<Integer> sectionIds) {
+        for (String cacheName : SECTION_LIST_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.evictIf(value -> containsAnySection(value, sectionIds));
+            } else if (cache instanceof CaffeineCache caffeineCache) {
+                caffeineCache.getNativeCache().asMap().values()
+                        .removeIf(value -> containsAnySection(value, sectionIds));
+            }
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        evict(CacheConfig.COURSE_BY_ID_CACHE, event.courseId());
+        evict(CacheConfig.COURSES_BY_SEMESTER_CACHE, CacheConfig.ALL_COURSES_KEY);
+        log.debug("Evicted cached entries for course id {}", event.courseId());
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private static boolean containsAnySection(Object cachedValue, Set<Integer> sectionIds) {
+        if (!(cachedValue instanceof List<?> sections)) {
+            return false;
+        }
+        for (Object section : sections) {
+            if (section instanceof CourseSection courseSection && sectionIds.contains(courseSection.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.maplewood.infrastructure.cache;
+
+/**
+ * Cross-node invalidation of node-local cache entries.
+ *
+ * @param originNodeId node that changed the entry; it ignores its own messages
+ * @param cacheName    CacheConfig cache name
+ * @param key          evicted key, or null when the whole cache was cleared
+ */
+public record CacheInvalidationMessage(String originNodeId, String cacheName, Object key) {
+
+    public static CacheInvalidationMessage evict(String originNodeId, String cacheName, Object key) {
+        return new CacheInvalidationMessage(originNodeId, cacheName, key);
+    }
+
+    public static CacheInvalidationMessage clear(String originNodeId, String cacheName) {
+        return new CacheInvalidationMessage(originNodeId, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.maplewood.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Cache-first multi-get for the by-id caches of the repository adapters (DataLoader style).
+ *
+ * Ids are deduplicated and looked up one by one in the cache; the misses are fetched with a single
+ * batch query (one IN clause) and written back, so the next batch or findById call is a hit.
+ * Results keep the order of the requested ids; null ids and ids without a row are skipped.
+ * Part of Infrastructure Layer
+ */
+@Component
+public class CachedBatchLoader {
+
+    private final CacheManager cacheManager;
+
+    public CachedBatchLoader(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * @param cacheName   by-id cache, keyed by the id as the matching @Cacheable findById does
+     * @param ids         requested ids, possibly with duplicates or nulls
+     * @param type        cached value type
+     * @param idOf        id of a loaded value
+     * @param loadMisses  batch query for the ids missing from the cache
+     */
+    public <K, V> List<V> loadAll(
+            String cacheName,
+            Collection<K> ids,
+            Class<V> type,
+            Function<V, K> idOf,
+            Function<List<K>, ? extends Collection<V>> loadMisses) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        Set<K> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        Cache cache = cacheManager.getCache(cacheName);
+
+        Map<K, V> valuesById = new LinkedHashMap<>();
+        List<K> missedIds = new ArrayList<>();
+        for (K id : distinctIds) {
+            V cached = cache == null ? null : cache.get(id, type);
+            if (cached != null) {
+                valuesById.put(id, cached);
+            } else {
+                missedIds.add(id);
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            for (V loaded : loadMisses.apply(missedIds)) {
+                K id = idOf.apply(loaded);
+                valuesById.put(id, loaded);
+                if (cache != null) {
+                    cache.put(id, loaded);
+                }
+            }
+        }
+
+        List<V> ordered = new ArrayList<>(valuesById.size());
+        for (K id : distinctIds) {
+            V value = valuesById.get(id);
+            if (value != null) {
+                ordered.add(value);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Back-fill a by-id cache with values loaded by another query (findAll).
+     */
+    public <K, V> void putAll(String cacheName, Collection<V> values, Function<V, K> idOf) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        values.forEach(value -> cache.put(idOf.apply(value), value));
+    }
+}
@@ -0,0 +1,96 @@
+package com.maplewood.infrastructure.cache;
+
+import com.maplewood.domain.course.event.CourseChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
+import com.maplewood.domain.coursesection.event.SectionSeatsSettledEvent;
+import com.maplewood.domain.enrollment.event.EnrollmentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Carries committed domain changes to the other nodes over the CacheInvalidationBus, so the node-local data
+ * derived from them (catalog snapshot version, catalog and per-student ETag versions) follows changes
+ * committed on any node.
+ *
+ * Local seat, course and enrollment events are broadcast after commit, once every local listener has run.
+ * Other nodes' events are re-published here as application events and are not broadcast again.
+ * Does nothing without a bus (cache.l2.provider=none), where this node is the only one.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+@Component
+public class DataChangeBroadcaster {
+
+    private final CacheInvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+
+    private final ThreadLocal<Boolean> replaying = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    public DataChangeBroadcaster(
+            ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher) {
+        this.invalidationBus = cacheInvalidationBus.getIfAvailable();
+        this.eventPublisher = eventPublisher;
+        this.nodeId = cacheManager instanceof TwoTierCacheManager twoTierCacheManager
+                ? twoTierCacheManager.getNodeId()
+                : null;
+        if (invalidationBus != null && nodeId != null) {
+            invalidationBus.subscribeToDataChanges(this::onDataChange);
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsChanged(SectionSeatsChangedEvent event) {
+        broadcast(event);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectionSeatsSettled(SectionSeatsSettledEvent event) {
+        broadcast(event);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        broadcast(event);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        broadcast(event);
+    }
+
+    private void broadcast(Object event) {
+        if (invalidationBus == null || nodeId == null || replaying.get()) {
+            return;
+        }
+        invalidationBus.publish(new DataChangeMessage(nodeId, event));
+    }
+
+    /**
+     * Replay another node's change to the local listeners, as if it had been committed here.
+     */
+    void onDataChange(DataChangeMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        replaying.set(Boolean.TRUE);
+        try {
+            eventPublisher.publishEvent(message.event());
+        } finally {
+            replaying.remove();
+        }
+        log.debug("Replayed {} from node {}", message.event(), message.originNodeId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.maplewood.infrastructure.cache;
+
+/**
+ * Cross-node notice of a committed domain change, for data other nodes derive from it.
+ *
+ * @param originNodeId node that committed the change; it ignores its own messages
+ * @param event        the domain event as published on the origin node (a record of ids, easy to serialize)
+ */
+public record DataChangeMessage(String originNodeId, Object event) {
+}
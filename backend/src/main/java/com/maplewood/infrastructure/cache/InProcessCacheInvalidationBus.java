@@ -0,0 +1,52 @@
+package com.maplewood.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * CacheInvalidationBus delivering synchronously to the subscribers of this JVM.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.l2.provider", havingValue = "in-process")
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<DataChangeMessage>> dataChangeSubscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        deliver(subscribers, message);
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void publish(DataChangeMessage message) {
+        deliver(dataChangeSubscribers, message);
+    }
+
+    @Override
+    public void subscribeToDataChanges(Consumer<DataChangeMessage> subscriber) {
+        dataChangeSubscribers.add(subscriber);
+    }
+
+    private static <M> void deliver(List<Consumer<M>> subscribers, M message) {
+        for (Consumer<M> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation subscriber failed for {}", message, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.maplewood.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * SharedCacheStore kept in this JVM, for a single node or for running several cache managers
+ * against one store in-process. Values are stored by reference and expire lazily.
+ * Part of Infrastructure Layer
+ */
+@Component
+@ConditionalOnProperty(name = "cache.l2.provider", havingValue = "in-process")
+public class InProcessSharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Map<Object, StoredValue>> entriesByCache = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        Map<Object, StoredValue> entries = entriesByCache.get(cacheName);
+        if (entries == null) {
+            return null;
+        }
+        StoredValue stored = entries.get(key);
+        if (stored == null) {
+            return null;
+        }
+        if (stored.isExpired()) {
+            entries.remove(key, stored);
+            return null;
+        }
+        return stored.value();
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration timeToLive) {
+        long expiresAtNanos = timeToLive == null ? Long.MAX_VALUE : System.nanoTime() + timeToLive.toNanos();
+        entriesByCache.computeIfAbsent(cacheName, ignored -> new ConcurrentHashMap<>())
+                .put(key, new StoredValue(value, expiresAtNanos));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, StoredValue> entries = entriesByCache.get(cacheName);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        entriesByCache.remove(cacheName);
+    }
+
+    @Override
+    public Set<Object> findKeys(String cacheName, Predicate<Object> valueFilter) {
+        Map<Object, StoredValue> entries = entriesByCache.get(cacheName);
+        Set<Object> keys = new HashSet<>();
+        if (entries != null) {
+            entries.forEach((key, stored) -> {
+                if (!stored.isExpired() && valueFilter.test(stored.value())) {
+                    keys.add(key);
+                }
+            });
+        }
+        return keys;
+    }
+
+    private record StoredValue(Object value, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.maplewood.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine CacheLoader for the refresh-ahead caches of CacheConfig.
+ *
+ * The adapter owning a cache registers its uncached load method per key. Spring's CaffeineCache then
+ * reads through LoadingCache.get, so concurrent misses for a key share one load, and refreshAfterWrite
+ * reloads in the background while the previous value keeps being served.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+public class RefreshAheadCacheLoader implements CacheLoader<Object, Object> {
+
+    private final String cacheName;
+    private final Map<Object, Supplier<?>> loadersByKey = new ConcurrentHashMap<>();
+
+    public RefreshAheadCacheLoader(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public void register(Object key, Supplier<?> loader) {
+        loadersByKey.put(key, loader);
+    }
+
+    /**
+     * @return the loaded value, or null when nothing is registered for the key or there is no value,
+     *         in which case Spring falls back to the @Cacheable method
+     */
+    @Override
+    public Object load(Object key) {
+        Supplier<?> loader = loadersByKey.get(key);
+        if (loader == null) {
+            return null;
+        }
+        log.debug("Loading key {} of cache {}", key, cacheName);
+        return loader.get();
+    }
+}
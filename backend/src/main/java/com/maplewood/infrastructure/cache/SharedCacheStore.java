@@ -0,0 +1,32 @@
+package com.maplewood.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Second-level cache shared by every node, behind the node-local Caffeine caches of TwoTierCache.
+ *
+ * Entries are addressed by cache name (the CacheConfig constants) and key. A networked implementation
+ * (Redis, Memcached, ...) must serialize values; InProcessSharedCacheStore is the in-process stand-in.
+ * Part of Infrastructure Layer
+ */
+public interface SharedCacheStore {
+
+    /**
+     * @return the stored value, or null when absent or expired
+     */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration timeToLive);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+
+    /**
+     * Keys of the entries whose value matches, for invalidation by content (section seat changes).
+     * Implementations may scan; callers use it only for small caches or rare events.
+     */
+    Set<Object> findKeys(String cacheName, Predicate<Object> valueFilter);
+}
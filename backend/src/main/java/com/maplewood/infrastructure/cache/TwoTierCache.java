@@ -0,0 +1,162 @@
+package com.maplewood.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+/**
+ * Caffeine cache (L1, node-local) in front of a SharedCacheStore (L2, shared by every node).
+ *
+ * Reads try L1, then L2 (copying a hit into L1), then the Caffeine loader or the @Cacheable method,
+ * whose result is written to both tiers. Evictions remove the entry from both tiers and are broadcast,
+ * so other nodes drop their L1 copy and re-read it from L2 instead of the database.
+ *
+ * L2 entries live as long as the L1 refresh interval, or its expiry when there is none, so a
+ * refresh-ahead cache never hands other nodes a value older than one refresh.
+ * Extends CaffeineCache so stats, Micrometer binding and the cachestats endpoint see L1 as before.
+ * Part of Infrastructure Layer
+ */
+public class TwoTierCache extends CaffeineCache {
+
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+    private final Duration sharedTimeToLive;
+
+    public TwoTierCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+            SharedCacheStore sharedStore,
+            CacheInvalidationBus invalidationBus,
+            String nodeId) {
+        super(name, localCache, false);
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = nodeId;
+        this.sharedTimeToLive = sharedTimeToLive(localCache.policy());
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = getNativeCache().getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = sharedStore.get(getName(), key);
+        if (value != null) {
+            getNativeCache().put(key, value);
+            return value;
+        }
+        if (getNativeCache() instanceof LoadingCache<Object, Object>) {
+            value = super.lookup(key);
+            if (value != null) {
+                sharedStore.put(getName(), key, value, sharedTimeToLive);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            @SuppressWarnings("unchecked")
+            T cached = (T) value;
+            return cached;
+        }
+        T loaded = super.get(key, valueLoader);
+        if (loaded != null) {
+            sharedStore.put(getName(), key, loaded, sharedTimeToLive);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        if (value != null) {
+            sharedStore.put(getName(), key, value, sharedTimeToLive);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        sharedStore.evict(getName(), key);
+        super.evict(key);
+        invalidationBus.publish(CacheInvalidationMessage.evict(nodeId, getName(), key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = getNativeCache().getIfPresent(key) != null || sharedStore.get(getName(), key) != null;
+        evict(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        sharedStore.clear(getName());
+        super.clear();
+        invalidationBus.publish(CacheInvalidationMessage.clear(nodeId, getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = getNativeCache().estimatedSize() > 0;
+        clear();
+        return notEmpty;
+    }
+
+    /**
+     * Evict, in both tiers and on every node, each entry whose value matches.
+     *
+     * @return number of evicted keys
+     */
+    public int evictIf(Predicate<Object> valueFilter) {
+        Set<Object> keys = new HashSet<>(sharedStore.findKeys(getName(), valueFilter));
+        getNativeCache().asMap().forEach((key, value) -> {
+            if (valueFilter.test(value)) {
+                keys.add(key);
+            }
+        });
+        keys.forEach(this::evict);
+        return keys.size();
+    }
+
+    /**
+     * Drop the node-local copy after another node changed the entry; L2 is already up to date.
+     */
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        if (message.isClear()) {
+            getNativeCache().invalidateAll();
+        } else {
+            getNativeCache().invalidate(message.key());
+        }
+    }
+
+    private static Duration sharedTimeToLive(Policy<Object, Object> policy) {
+        return policy.refreshAfterWrite()
+                .map(Policy.FixedRefresh::getRefreshesAfter)
+                .or(() -> policy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter))
+                .orElse(null);
+    }
+}
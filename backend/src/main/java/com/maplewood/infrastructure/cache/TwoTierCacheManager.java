@@ -0,0 +1,47 @@
+package com.maplewood.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * CaffeineCacheManager whose caches are TwoTierCaches sharing one SharedCacheStore.
+ * Subscribes to the CacheInvalidationBus and applies other nodes' evictions to the local tier.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+public class TwoTierCacheManager extends CaffeineCacheManager {
+
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+
+    public TwoTierCacheManager(SharedCacheStore sharedStore, CacheInvalidationBus invalidationBus, String nodeId) {
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = nodeId;
+        invalidationBus.subscribe(this::onInvalidation);
+        log.info("Two-tier caches enabled on node {}", nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new TwoTierCache(name, cache, sharedStore, invalidationBus, nodeId);
+    }
+
+    /**
+     * Only caches already registered here: a message must not create a dynamic cache.
+     */
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (!getCacheNames().contains(message.cacheName())) {
+            return;
+        }
+        if (getCache(message.cacheName()) instanceof TwoTierCache twoTierCache) {
+            twoTierCache.onInvalidation(message);
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.maplewood.infrastructure.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maplewood.infrastructure.cache.CacheInvalidationBus;
+import com.maplewood.infrastructure.cache.RefreshAheadCacheLoader;
+import com.maplewood.infrastructure.cache.SharedCacheStore;
+import com.maplewood.infrastructure.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -8,28 +14,84 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.UUID;
 
+/**
+ * Caffeine caches behind Spring's @Cacheable.
+ * Entries changed by the application are evicted after commit by CacheInvalidationListener,
+ * so TTLs only bound how long an edit made outside the application (SQL, migrations) stays invisible.
+ * Every cache records statistics: Spring Boot binds them to Micrometer (cache.gets, cache.evictions, ...)
+ * and CacheStatsEndpoint exposes them per cache under /actuator/cachestats.
+ * The active semester and the full course list are LoadingCaches: concurrent misses share one load
+ * and entries are refreshed in the background, the stale value being served meanwhile.
+ * When cache.l2.provider registers a SharedCacheStore, every cache becomes a TwoTierCache: these Caffeine
+ * caches stay the node-local L1 in front of the shared L2, and evictions are broadcast to the other nodes.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     public static final String ACTIVE_SEMESTER_CACHE = "activeSemesterCache";
+    public static final String SEMESTER_BY_ID_CACHE = "semesterByIdCache";
     public static final String TEACHER_BY_ID_CACHE = "teacherByIdCache";
+    public static final String STUDENT_BY_ID_CACHE = "studentByIdCache";
+    public static final String STUDENT_BY_EMAIL_CACHE = "studentByEmailCache";
     public static final String COURSE_BY_ID_CACHE = "courseByIdCache";
     public static final String COURSES_BY_SEMESTER_CACHE = "coursesBySemesterCache";
     public static final String SECTIONS_BY_COURSE_SEMESTER_CACHE = "sectionsByCourseSemesterCache";
     public static final String SECTIONS_BY_COURSES_SEMESTER_CACHE = "sectionsByCoursesSemesterCache";
 
+    public static final String ACTIVE_SEMESTER_KEY = "active";
+    public static final String ALL_COURSES_KEY = "all-courses";
+
+    /**
+     * Single-key caches read on almost every request: entries are reloaded in the background
+     * once older than this, instead of every reader blocking on the reload at expiry.
+     */
+    private static final Duration REFRESH_AHEAD_AFTER = Duration.ofMinutes(15);
+
+    @Bean
+    public RefreshAheadCacheLoader activeSemesterCacheLoader() {
+        return new RefreshAheadCacheLoader(ACTIVE_SEMESTER_CACHE);
+    }
+
+    @Bean
+    public RefreshAheadCacheLoader coursesBySemesterCacheLoader() {
+        return new RefreshAheadCacheLoader(COURSES_BY_SEMESTER_CACHE);
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(
+            RefreshAheadCacheLoader activeSemesterCacheLoader,
+            RefreshAheadCacheLoader coursesBySemesterCacheLoader,
+            ObjectProvider<SharedCacheStore> sharedCacheStore,
+            ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+            @Value("${cache.l2.node-id:}") String nodeId) {
+        SharedCacheStore sharedStore = sharedCacheStore.getIfAvailable();
+        CaffeineCacheManager cacheManager = sharedStore == null
+                ? new CaffeineCacheManager()
+                : new TwoTierCacheManager(
+                        sharedStore,
+                        cacheInvalidationBus.getObject(),
+                        nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId);
         cacheManager.setAllowNullValues(false);
 
         cacheManager.registerCustomCache(
                 ACTIVE_SEMESTER_CACHE,
                 Caffeine.newBuilder()
+                        .refreshAfterWrite(REFRESH_AHEAD_AFTER)
                         .expireAfterWrite(Duration.ofDays(1))
                         .maximumSize(10_000)
+                        .recordStats()
+                        .build(activeSemesterCacheLoader)
+        );
+
+        cacheManager.registerCustomCache(
+                SEMESTER_BY_ID_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofDays(1))
+                        .maximumSize(1_000)
+                        .recordStats()
                         .build()
         );
 
@@ -38,38 +100,63 @@ public class CacheConfig {
                 Caffeine.newBuilder()
                         .expireAfterWrite(Duration.ofHours(1))
                         .maximumSize(10_000)
+                        .recordStats()
                         .build()
         );
 
+        // Nothing evicts student records: this TTL bounds how long enrollment sees a grade change made in the database
         cacheManager.registerCustomCache(
-                COURSE_BY_ID_CACHE,
+                STUDENT_BY_ID_CACHE,
                 Caffeine.newBuilder()
                         .expireAfterWrite(Duration.ofHours(1))
+                        .maximumSize(50_000)
+                        .recordStats()
+                        .build()
+        );
+
+        cacheManager.registerCustomCache(
+                STUDENT_BY_EMAIL_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofHours(1))
+                        .maximumSize(50_000)
+                        .recordStats()
+                        .build()
+        );
+
+        cacheManager.registerCustomCache(
+                COURSE_BY_ID_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofDays(1))
                         .maximumSize(10_000)
+                        .recordStats()
                         .build()
         );
 
         cacheManager.registerCustomCache(
                 COURSES_BY_SEMESTER_CACHE,
                 Caffeine.newBuilder()
+                        .refreshAfterWrite(REFRESH_AHEAD_AFTER)
                         .expireAfterWrite(Duration.ofDays(1))
                         .maximumSize(1_000)
-                        .build()
+                        .recordStats()
+                        .build(coursesBySemesterCacheLoader)
         );
 
         cacheManager.registerCustomCache(
                 SECTIONS_BY_COURSE_SEMESTER_CACHE,
                 Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofMinutes(15))
+                        .expireAfterWrite(Duration.ofHours(6))
                         .maximumSize(50_000)
+                        .recordStats()
                         .build()
         );
 
         cacheManager.registerCustomCache(
                 SECTIONS_BY_COURSES_SEMESTER_CACHE,
                 Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofMinutes(15))
+                        .expireAfterWrite(Duration.ofHours(6))
                         .maximumSize(10_000)
+                        .recordStats()
                         .build()
         );
 
@@ -0,0 +1,13 @@
+package com.maplewood.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (seat ledger write-behind)
+ * Part of Infrastructure Layer
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,125 @@
+package com.maplewood.infrastructure.config;
+
+import com.maplewood.infrastructure.persistence.datasource.PermitLimitedDataSource;
+import com.maplewood.infrastructure.persistence.datasource.TransactionRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * SQLite datasource configuration.
+ *
+ * Every connection runs in WAL mode with synchronous=NORMAL, a busy timeout and memory-mapped I/O.
+ * SQLite allows a single writer at a time, so read-write transactions and Flyway get a pool of exactly
+ * one connection while read-only transactions and work outside a transaction are spread over a pool
+ * of read-only connections.
+ * With sqlite.connection-permits.enabled (the default when spring.threads.virtual.enabled is set),
+ * each pool is fronted by a PermitLimitedDataSource so waiting for SQLite is bounded by permits, not threads.
+ * Part of Infrastructure Layer
+ */
+@Configuration
+public class SqliteDataSourceConfig {
+
+    private static final String DRIVER_CLASS_NAME = "org.sqlite.JDBC";
+
+    @Bean(destroyMethod = "close")
+    @FlywayDataSource
+    public HikariDataSource sqliteWriterDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${sqlite.busy-timeout-ms:5000}") int busyTimeoutMs,
+            @Value("${sqlite.mmap-size-bytes:268435456}") long mmapSizeBytes) {
+        SQLiteConfig sqliteConfig = sqliteConfig(busyTimeoutMs, mmapSizeBytes);
+        // journal_mode is persisted in the database file, so the writer switching it is enough for readers
+        sqliteConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+
+        HikariConfig hikariConfig = hikariConfig("sqlite-writer", url, sqliteConfig);
+        hikariConfig.setMaximumPoolSize(1);
+        hikariConfig.setMinimumIdle(1);
+        // Opened eagerly so WAL mode is set before the first reader connects
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReaderDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${sqlite.busy-timeout-ms:5000}") int busyTimeoutMs,
+            @Value("${sqlite.mmap-size-bytes:268435456}") long mmapSizeBytes,
+            @Value("${sqlite.reader-pool-size:0}") int readerPoolSize,
+            HikariDataSource sqliteWriterDataSource) {
+        SQLiteConfig sqliteConfig = sqliteConfig(busyTimeoutMs, mmapSizeBytes);
+        sqliteConfig.setReadOnly(true);
+
+        HikariConfig hikariConfig = hikariConfig("sqlite-reader", url, sqliteConfig);
+        hikariConfig.setMaximumPoolSize(readerPoolSize > 0
+                ? readerPoolSize
+                : Runtime.getRuntime().availableProcessors());
+        hikariConfig.setReadOnly(true);
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource sqliteWriterDataSource,
+            HikariDataSource sqliteReaderDataSource,
+            @Value("${sqlite.connection-permits.enabled:false}") boolean permitsEnabled,
+            @Value("${sqlite.connection-permits.reader:0}") int readerPermits,
+            @Value("${sqlite.connection-permits.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        DataSource writer = sqliteWriterDataSource;
+        DataSource reader = sqliteReaderDataSource;
+        if (permitsEnabled) {
+            Duration acquireTimeout = Duration.ofMillis(acquireTimeoutMs);
+            writer = new PermitLimitedDataSource(sqliteWriterDataSource.getPoolName(), sqliteWriterDataSource,
+                    sqliteWriterDataSource.getMaximumPoolSize(), acquireTimeout);
+            reader = new PermitLimitedDataSource(sqliteReaderDataSource.getPoolName(), sqliteReaderDataSource,
+                    readerPermits(readerPermits, sqliteReaderDataSource.getMaximumPoolSize()), acquireTimeout);
+        }
+
+        TransactionRoutingDataSource routingDataSource = new TransactionRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                TransactionRoutingDataSource.Route.WRITER, writer,
+                TransactionRoutingDataSource.Route.READER, reader
+        ));
+        routingDataSource.setDefaultTargetDataSource(writer);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 0 means half the available processors, so statements pinned inside the SQLite driver leave
+     * carrier threads for the rest of the request handling; never more than the pool size.
+     */
+    private static int readerPermits(int configuredPermits, int poolSize) {
+        int permits = configuredPermits > 0
+                ? configuredPermits
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return Math.min(permits, poolSize);
+    }
+
+    private SQLiteConfig sqliteConfig(int busyTimeoutMs, long mmapSizeBytes) {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        sqliteConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        sqliteConfig.setBusyTimeout(busyTimeoutMs);
+        sqliteConfig.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSizeBytes));
+        return sqliteConfig;
+    }
+
+    private HikariConfig hikariConfig(String poolName, String url, SQLiteConfig sqliteConfig) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setDriverClassName(DRIVER_CLASS_NAME);
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setDataSourceProperties(sqliteConfig.toProperties());
+        return hikariConfig;
+    }
+}
@@ -3,9 +3,11 @@ package com.maplewood.infrastructure.exception;
 import com.maplewood.domain.course.exception.CourseNotFoundException;
 import com.maplewood.domain.course.exception.InvalidCourseTypeException;
 import com.maplewood.domain.course.exception.InvalidSemesterOrderException;
+import com.maplewood.domain.coursesection.exception.CourseSectionFullException;
 import com.maplewood.domain.coursesection.exception.CourseSectionNotFoundException;
 import com.maplewood.domain.enrollment.exception.EnrollmentEligibilityException;
 import com.maplewood.domain.enrollment.exception.EnrollmentNotFoundException;
+import com.maplewood.domain.enrollment.exception.EnrollmentWriteTimeoutException;
 import com.maplewood.domain.semester.exception.ActiveSemesterNotFoundException;
 import com.maplewood.domain.semester.exception.SemesterNotFoundException;
 import com.maplewood.domain.student.exception.InvalidAuthenticatedStudentException;
@@ -197,6 +199,46 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle CourseSectionFullException
+     */
+    @ExceptionHandler(CourseSectionFullException.class)
+    public ResponseEntity<ErrorResponse> handleCourseSectionFullException(
+            CourseSectionFullException ex, WebRequest request) {
+
+        log.warn("Course section full: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Course Section Full",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handle EnrollmentWriteTimeoutException
+     */
+    @ExceptionHandler(EnrollmentWriteTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleEnrollmentWriteTimeoutException(
+            EnrollmentWriteTimeoutException ex, WebRequest request) {
+
+        log.warn("Enrollment write timed out: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Enrollment Write Timeout",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle IllegalArgumentException
      */
@@ -0,0 +1,106 @@
+package com.maplewood.infrastructure.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Actuator endpoint with per-cache Caffeine statistics, for tuning sizes and TTLs.
+ *
+ * GET    /actuator/cachestats         - every cache
+ * GET    /actuator/cachestats/{name}  - one cache
+ * DELETE /actuator/cachestats/{name}  - evict every entry of one cache
+ *
+ * Counters are cumulative since startup; eviction through this endpoint does not reset them.
+ * Like every actuator endpoint other than health and info, it requires an Authorization: Bearer token.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public List<CacheStatsDescriptor> caches() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::describe)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @ReadOperation
+    public CacheStatsDescriptor cache(@Selector String name) {
+        return describe(name);
+    }
+
+    @DeleteOperation
+    public CacheStatsDescriptor evict(@Selector String name) {
+        Cache cache = findCache(name);
+        if (cache == null) {
+            return null;
+        }
+        cache.invalidate();
+        log.info("Evicted every entry of cache {} through the cachestats endpoint", name);
+        return describe(name);
+    }
+
+    private CacheStatsDescriptor describe(String name) {
+        if (!(findCache(name) instanceof CaffeineCache caffeineCache)) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return new CacheStatsDescriptor(
+                name,
+                nativeCache.estimatedSize(),
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadCount(),
+                stats.loadFailureCount(),
+                stats.totalLoadTime() / 1_000_000.0,
+                stats.averageLoadPenalty() / 1_000_000.0
+        );
+    }
+
+    /**
+     * Look up only registered caches: getCache on a dynamic CaffeineCacheManager would create a new one
+     */
+    private Cache findCache(String name) {
+        return cacheManager.getCacheNames().contains(name) ? cacheManager.getCache(name) : null;
+    }
+
+    public record CacheStatsDescriptor(
+            String name,
+            long estimatedSize,
+            long requests,
+            long hits,
+            long misses,
+            double hitRatio,
+            long evictions,
+            long loads,
+            long loadFailures,
+            double totalLoadTimeMs,
+            double averageLoadPenaltyMs
+    ) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.maplewood.infrastructure.metrics;
+
+import com.maplewood.domain.coursesection.exception.CourseSectionFullException;
+import com.maplewood.domain.enrollment.exception.EnrollmentEligibilityException;
+import com.maplewood.domain.enrollment.model.EligibilityViolation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every use case execution and every repository port call.
+ *
+ * maplewood.usecase    - tags usecase, outcome (success/rejected/error), exception
+ * maplewood.repository - tags port, method, outcome, exception
+ * maplewood.enrollment.rejections - counter tagged with the rejection reason and use case
+ *
+ * Timer counts double as call counts; histograms are enabled in application.properties.
+ * Runs outside the cache and transaction interceptors, so repository timings include cache hits.
+ * Part of Infrastructure Layer
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LayerMetricsAspect {
+
+    private static final String USE_CASE_TIMER = "maplewood.usecase";
+    private static final String REPOSITORY_TIMER = "maplewood.repository";
+    private static final String REJECTION_COUNTER = "maplewood.enrollment.rejections";
+
+    private static final String SECTION_FULL_REASON = EligibilityViolation.TYPE_SECTION_FULL;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    public LayerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.maplewood.application..usecase.*UseCase.execute(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimer(joinPoint, USE_CASE_TIMER, "usecase", useCase, null)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder(USE_CASE_TIMER)
+                    .tag("usecase", useCase)
+                    .tag("outcome", isRejection(ex) ? "rejected" : "error")
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            countRejection(useCase, ex);
+            throw ex;
+        }
+    }
+
+    @Around("execution(* com.maplewood.domain..port.*RepositoryPort+.*(..))")
+    public Object timeRepositoryPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimer(joinPoint, REPOSITORY_TIMER, "port", portName(joinPoint), joinPoint.getSignature().getName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder(REPOSITORY_TIMER)
+                    .tag("port", portName(joinPoint))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", "error")
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer successTimer(ProceedingJoinPoint joinPoint, String name, String ownerTag, String owner, String method) {
+        Method key = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return successTimers.computeIfAbsent(key, ignored -> {
+            Timer.Builder builder = Timer.builder(name)
+                    .tag(ownerTag, owner)
+                    .tag("outcome", "success")
+                    .tag("exception", "none");
+            if (method != null) {
+                builder.tag("method", method);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private void countRejection(String useCase, Throwable ex) {
+        String reason;
+        if (ex instanceof EnrollmentEligibilityException eligibility) {
+            reason = eligibility.getType() == null ? "unknown" : eligibility.getType();
+        } else if (ex instanceof CourseSectionFullException) {
+            reason = SECTION_FULL_REASON;
+        } else {
+            return;
+        }
+        rejectionCounters.computeIfAbsent(useCase + ":" + reason, ignored -> Counter.builder(REJECTION_COUNTER)
+                        .description("Enrollment requests rejected by an eligibility rule or a full section")
+                        .tag("reason", reason)
+                        .tag("usecase", useCase)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static boolean isRejection(Throwable ex) {
+        return ex instanceof EnrollmentEligibilityException || ex instanceof CourseSectionFullException;
+    }
+
+    /**
+     * The RepositoryPort interface implemented by the adapter, so tags name the port rather than the adapter
+     */
+    private static String portName(ProceedingJoinPoint joinPoint) {
+        Class<?> type = joinPoint.getSignature().getDeclaringType();
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (candidate.getSimpleName().endsWith("RepositoryPort")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return type.getSimpleName();
+    }
+}
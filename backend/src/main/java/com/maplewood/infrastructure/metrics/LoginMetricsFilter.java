@@ -0,0 +1,150 @@
+package com.maplewood.infrastructure.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts login attempts per client network, to see who drives a login spike.
+ *
+ * maplewood.login.requests - counter tagged client (IPv4 /24 or IPv6 /48 of the remote address)
+ *                            and outcome (success/not_found/rejected/error)
+ *
+ * Login throughput per client is the rate of the counter. Addresses are aggregated to their network,
+ * so no individual address is published. At most auth.login.metrics.max-clients networks get their own
+ * client tag, later ones are counted as "other", so the number of series stays bounded. A network without
+ * a login for auth.login.metrics.client-idle-timeout gives its slot back and its series are removed.
+ * Behind a proxy, set server.forward-headers-strategy so the remote address is the client's.
+ * Part of Infrastructure Layer
+ */
+@Component
+public class LoginMetricsFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_COUNTER = "maplewood.login.requests";
+    private static final String LOGIN_PATH = "/api/login";
+    private static final String OTHER_CLIENTS = "other";
+    private static final List<String> OUTCOMES = List.of("success", "not_found", "rejected", "error");
+    private static final int IPV4_PREFIX_BYTES = 3;
+    private static final int IPV6_PREFIX_BYTES = 6;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxClients;
+
+    private final Cache<String, Boolean> trackedClients;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public LoginMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.login.metrics.max-clients:200}") int maxClients,
+            @Value("${auth.login.metrics.client-idle-timeout:PT10M}") Duration clientIdleTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.maxClients = maxClients;
+        this.trackedClients = Caffeine.newBuilder()
+                .expireAfterAccess(clientIdleTimeout)
+                .removalListener((String client, Boolean ignored, RemovalCause cause) -> removeCounters(client))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !LOGIN_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String outcome = "error";
+        try {
+            filterChain.doFilter(request, response);
+            outcome = outcome(response.getStatus());
+        } finally {
+            counter(client(request.getRemoteAddr()), outcome).increment();
+        }
+    }
+
+    private String client(String address) {
+        String network = network(address);
+        if (network == null) {
+            return OTHER_CLIENTS;
+        }
+        if (trackedClients.getIfPresent(network) != null) {
+            return network;
+        }
+        // Racing threads can overshoot the cap by a few networks, which is harmless
+        if (trackedClients.estimatedSize() < maxClients) {
+            trackedClients.put(network, Boolean.TRUE);
+            return network;
+        }
+        return OTHER_CLIENTS;
+    }
+
+    /**
+     * @return the /24 (IPv4) or /48 (IPv6) network of a numeric address, or null when it is not one
+     */
+    private static String network(String address) {
+        // Only IP literals are accepted, so getByName never resolves a host name
+        if (address == null || address.isEmpty() || (address.indexOf(':') < 0
+                && !address.chars().allMatch(c -> c == '.' || Character.isDigit(c)))) {
+            return null;
+        }
+        try {
+            InetAddress inetAddress = InetAddress.getByName(address);
+            boolean ipv4 = inetAddress instanceof Inet4Address;
+            int prefixBytes = ipv4 ? IPV4_PREFIX_BYTES : IPV6_PREFIX_BYTES;
+            byte[] bytes = inetAddress.getAddress();
+            Arrays.fill(bytes, prefixBytes, bytes.length, (byte) 0);
+            return InetAddress.getByAddress(bytes).getHostAddress() + '/' + (prefixBytes * 8);
+        } catch (UnknownHostException exception) {
+            return null;
+        }
+    }
+
+    private Counter counter(String client, String outcome) {
+        return counters.computeIfAbsent(client + '|' + outcome, ignored -> Counter.builder(LOGIN_COUNTER)
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private void removeCounters(String client) {
+        for (String outcome : OUTCOMES) {
+            Counter counter = counters.remove(client + '|' + outcome);
+            if (counter != null) {
+                meterRegistry.remove(counter);
+            }
+        }
+    }
+
+    private static String outcome(int status) {
+        if (status >= 200 && status < 300) {
+            return "success";
+        }
+        if (status == HttpServletResponse.SC_NOT_FOUND) {
+            return "not_found";
+        }
+        return status >= 400 && status < 500 ? "rejected" : "error";
+    }
+}
@@ -1,17 +1,26 @@
 package com.maplewood.infrastructure.persistence.adapter;
 
+import com.maplewood.domain.course.event.CourseChangedEvent;
 import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.model.CourseSearchCriteria;
 import com.maplewood.domain.course.model.CourseType;
 import com.maplewood.domain.course.model.SemesterOrder;
 import com.maplewood.domain.course.port.CourseRepositoryPort;
+import com.maplewood.infrastructure.cache.CachedBatchLoader;
+import com.maplewood.infrastructure.cache.RefreshAheadCacheLoader;
 import com.maplewood.infrastructure.config.CacheConfig;
 import com.maplewood.infrastructure.persistence.entity.CourseJpaEntity;
 import com.maplewood.infrastructure.persistence.repository.CourseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -23,15 +32,31 @@ import java.util.stream.Collectors;
 public class CourseRepositoryAdapter implements CourseRepositoryPort {
 
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CachedBatchLoader cachedBatchLoader;
 
     @Autowired
-    public CourseRepositoryAdapter(CourseRepository courseRepository) {
+    public CourseRepositoryAdapter(
+            CourseRepository courseRepository,
+            ApplicationEventPublisher eventPublisher,
+            CachedBatchLoader cachedBatchLoader,
+            @Qualifier("coursesBySemesterCacheLoader") RefreshAheadCacheLoader coursesBySemesterCacheLoader) {
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
+        this.cachedBatchLoader = cachedBatchLoader;
+        coursesBySemesterCacheLoader.register(CacheConfig.ALL_COURSES_KEY, this::loadAll);
     }
 
+    /**
+     * Loaded and refreshed ahead of expiry through the cache loader registered in the constructor.
+     */
     @Override
-    @Cacheable(cacheNames = CacheConfig.COURSES_BY_SEMESTER_CACHE, key = "'all-courses'")
+    @Cacheable(cacheNames = CacheConfig.COURSES_BY_SEMESTER_CACHE, key = "T(com.maplewood.infrastructure.config.CacheConfig).ALL_COURSES_KEY")
     public List<Course> findAll() {
+        return loadAll();
+    }
+
+    private List<Course> loadAll() {
         return courseRepository.findAll()
                 .stream()
                 .map(this::toDomain)
@@ -39,31 +64,81 @@ public class CourseRepositoryAdapter implements CourseRepositoryPort {
     }
 
     @Override
-    @Cacheable(cacheNames = CacheConfig.COURSE_BY_ID_CACHE, key = "#id")
+    @Cacheable(cacheNames = CacheConfig.COURSE_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Course> findById(Integer id) {
         return courseRepository.findById(id).map(this::toDomain);
     }
 
+    /**
+     * Shares COURSE_BY_ID_CACHE with findById: only the ids missing from it are queried.
+     */
     @Override
     public List<Course> findAllById(List<Integer> ids) {
-        if (ids == null || ids.isEmpty()) {
-            return List.of();
-        }
-        return courseRepository.findAllById(ids)
-                .stream()
+        return cachedBatchLoader.loadAll(
+                CacheConfig.COURSE_BY_ID_CACHE,
+                ids,
+                Course.class,
+                Course::getId,
+                missedIds -> courseRepository.findAllById(missedIds)
+                        .stream()
+                        .map(this::toDomain)
+                        .toList()
+        );
+    }
+
+    @Override
+    public List<Course> search(CourseSearchCriteria criteria) {
+        Pageable firstRows = PageRequest.of(0, Math.max(1, criteria.getLimit()));
+        String courseType = criteria.getCourseType() == null ? null : criteria.getCourseType().getValue();
+        Integer semesterOrder = criteria.getSemesterOrder() == null ? null : criteria.getSemesterOrder().getValue();
+        String textPattern = toLikePattern(criteria.getText());
+        Integer afterId = criteria.getAfterId() == null ? 0 : criteria.getAfterId();
+
+        List<CourseJpaEntity> entities = switch (criteria.getSort()) {
+            case NAME -> courseRepository.searchOrderByName(
+                    criteria.getGradeLevel(),
+                    courseType,
+                    criteria.getSpecializationId(),
+                    semesterOrder,
+                    textPattern,
+                    criteria.isOnlyWithOpenSeats(),
+                    criteria.getOpenSeatsSemesterId(),
+                    criteria.getAfterSortValue(),
+                    afterId,
+                    firstRows
+            );
+            case CODE -> courseRepository.searchOrderByCode(
+                    criteria.getGradeLevel(),
+                    courseType,
+                    criteria.getSpecializationId(),
+                    semesterOrder,
+                    textPattern,
+                    criteria.isOnlyWithOpenSeats(),
+                    criteria.getOpenSeatsSemesterId(),
+                    criteria.getAfterSortValue(),
+                    afterId,
+                    firstRows
+            );
+        };
+        return entities.stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Cached course entries are dropped by CacheInvalidationListener once the change is committed.
+     */
     @Override
     public Course save(Course course) {
         CourseJpaEntity saved = courseRepository.save(toJpaEntity(course));
+        eventPublisher.publishEvent(new CourseChangedEvent(saved.getId()));
         return toDomain(saved);
     }
 
     @Override
     public void deleteById(Integer id) {
         courseRepository.deleteById(id);
+        eventPublisher.publishEvent(new CourseChangedEvent(id));
     }
 
     @Override
@@ -71,6 +146,21 @@ public class CourseRepositoryAdapter implements CourseRepositoryPort {
         return courseRepository.existsById(id);
     }
 
+    /**
+     * Lower-cased "%text%" with LIKE wildcards escaped, or null when there is no text filter
+     */
+    private String toLikePattern(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String escaped = text.trim()
+                .toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
     private Course toDomain(CourseJpaEntity entity) {
         return new Course(
                 entity.getId(),
@@ -1,13 +1,17 @@
 package com.maplewood.infrastructure.persistence.adapter;
 
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
 import com.maplewood.domain.coursesection.model.CourseSection;
 import com.maplewood.domain.coursesection.model.CourseSection.MeetingTime;
+import com.maplewood.domain.coursesection.model.WeeklyOccupancy;
 import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
 import com.maplewood.infrastructure.config.CacheConfig;
 import com.maplewood.infrastructure.persistence.entity.CourseSectionJpaEntity;
 import com.maplewood.infrastructure.persistence.repository.CourseSectionRepository;
+import com.maplewood.infrastructure.seat.SeatLedger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,10 +25,17 @@ import java.util.stream.Collectors;
 public class CourseSectionRepositoryAdapter implements CourseSectionRepositoryPort {
 
     private final CourseSectionRepository courseSectionRepository;
+    private final SeatLedger seatLedger;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CourseSectionRepositoryAdapter(CourseSectionRepository courseSectionRepository) {
+    public CourseSectionRepositoryAdapter(
+            CourseSectionRepository courseSectionRepository,
+            SeatLedger seatLedger,
+            ApplicationEventPublisher eventPublisher) {
         this.courseSectionRepository = courseSectionRepository;
+        this.seatLedger = seatLedger;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -54,6 +65,42 @@ public class CourseSectionRepositoryAdapter implements CourseSectionRepositoryPo
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Only the seat ledger can answer without a database round trip; otherwise defer to reserveSeat.
+     */
+    @Override
+    public boolean hasAvailableSeat(Integer sectionId) {
+        return !seatLedger.isEnabled() || seatLedger.hasAvailableSeat(sectionId);
+    }
+
+    /**
+     * A SectionSeatsChangedEvent is published for every seat that actually changed in the database;
+     * CacheInvalidationListener then drops the cached section lists containing that section after commit.
+     * With the seat ledger enabled the database write is deferred and the ledger publishes after each flush.
+     */
+    @Override
+    public boolean reserveSeat(Integer sectionId) {
+        if (seatLedger.isEnabled()) {
+            return seatLedger.reserve(sectionId);
+        }
+        boolean reserved = courseSectionRepository.incrementEnrolledCountIfAvailable(sectionId) > 0;
+        if (reserved) {
+            eventPublisher.publishEvent(SectionSeatsChangedEvent.of(sectionId));
+        }
+        return reserved;
+    }
+
+    @Override
+    public void releaseSeat(Integer sectionId) {
+        if (seatLedger.isEnabled()) {
+            seatLedger.release(sectionId);
+            return;
+        }
+        if (courseSectionRepository.decrementEnrolledCount(sectionId) > 0) {
+            eventPublisher.publishEvent(SectionSeatsChangedEvent.of(sectionId));
+        }
+    }
+
     public static String buildBatchKey(List<Integer> courseIds, Integer semesterId) {
         if (courseIds == null || courseIds.isEmpty()) {
             return "[]:" + semesterId;
@@ -89,6 +136,7 @@ public class CourseSectionRepositoryAdapter implements CourseSectionRepositoryPo
                 .capacity(entity.getCapacity())
                 .enrolledCount(entity.getEnrolledCount())
                 .meetingTimes(meetingTimes)
+                .occupancy(WeeklyOccupancy.of(meetingTimes))
                 .build();
     }
 }
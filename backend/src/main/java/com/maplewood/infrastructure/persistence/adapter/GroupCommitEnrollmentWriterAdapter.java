@@ -0,0 +1,304 @@
+package com.maplewood.infrastructure.persistence.adapter;
+
+import com.maplewood.domain.coursesection.exception.CourseSectionFullException;
+import com.maplewood.domain.coursesection.exception.CourseSectionNotFoundException;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
+import com.maplewood.domain.enrollment.event.EnrollmentChangedEvent;
+import com.maplewood.domain.enrollment.model.EligibilityViolation;
+import com.maplewood.domain.enrollment.model.Enrollment;
+import com.maplewood.domain.enrollment.port.EnrollmentRepositoryPort;
+import com.maplewood.domain.enrollment.port.EnrollmentWriterPort;
+import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter that implements EnrollmentWriterPort with group commit.
+ *
+ * Commands are queued and a single writer thread drains them in micro-batches of at most
+ * max-size commands, waiting at most max-wait-ms for a batch to fill. Each batch is committed in
+ * one transaction, so concurrent enrollments share one SQLite write lock and one fsync.
+ * Before reserving a seat, the per-student rules (enrollment limit, schedule conflict) are re-checked
+ * against the student's enrollments as read in the batch transaction, so two concurrent requests of
+ * one student cannot both pass validation with the same free slot.
+ * A section without seats or a failed re-check only fails its own command. When the batch commit itself fails
+ * (e.g. a unique constraint), every command is retried in its own transaction so each caller
+ * receives its own result or error. An EnrollmentChangedEvent is published for every committed command.
+ * Commands submitted once the writer is stopping are committed on the caller's thread, and commands
+ * still queued when the writer thread exits are failed, so no caller waits on a future nobody completes.
+ *
+ * Part of Infrastructure Layer - adapts infrastructure to domain port
+ */
+@Slf4j
+@Component
+public class GroupCommitEnrollmentWriterAdapter implements EnrollmentWriterPort {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final EnrollmentRepositoryPort enrollmentRepositoryPort;
+    private final CourseSectionRepositoryPort courseSectionRepositoryPort;
+    private final EnrollmentEligibilityService enrollmentEligibilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Object lifecycleLock = new Object();
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GroupCommitEnrollmentWriterAdapter(
+            EnrollmentRepositoryPort enrollmentRepositoryPort,
+            CourseSectionRepositoryPort courseSectionRepositoryPort,
+            EnrollmentEligibilityService enrollmentEligibilityService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${enrollment.write-batch.enabled:false}") boolean enabled,
+            @Value("${enrollment.write-batch.max-size:32}") int maxBatchSize,
+            @Value("${enrollment.write-batch.max-wait-ms:2}") long maxWaitMs) {
+        this.enrollmentRepositoryPort = enrollmentRepositoryPort;
+        this.courseSectionRepositoryPort = courseSectionRepositoryPort;
+        this.enrollmentEligibilityService = enrollmentEligibilityService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMs));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, "enrollment-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Enrollment> enroll(Enrollment enrollment) {
+        return submit(new Command(CommandType.ENROLL, enrollment, new CompletableFuture<>()));
+    }
+
+    @Override
+    public CompletableFuture<Enrollment> unenroll(Enrollment enrollment) {
+        return submit(new Command(CommandType.UNENROLL, enrollment, new CompletableFuture<>()));
+    }
+
+    private CompletableFuture<Enrollment> submit(Command command) {
+        // Enqueue under the lock, so a command is never queued after the writer thread has stopped draining
+        synchronized (lifecycleLock) {
+            if (running) {
+                queue.add(command);
+                return command.future();
+            }
+        }
+        commit(List.of(command));
+        return command.future();
+    }
+
+    private void drainLoop() {
+        List<Command> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Command first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    fillBatch(batch);
+                    commit(batch);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (RuntimeException exception) {
+                    log.error("Enrollment writer failed to process a batch", exception);
+                    batch.forEach(command -> command.future().completeExceptionally(exception));
+                } finally {
+                    batch.clear();
+                }
+            }
+        } catch (Error error) {
+            log.error("Enrollment writer thread died", error);
+            batch.forEach(command -> command.future().completeExceptionally(error));
+            throw error;
+        } finally {
+            failQueued();
+        }
+    }
+
+    /**
+     * Stops accepting commands and fails the ones still queued; later submits commit on the caller's thread.
+     */
+    private void failQueued() {
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        List<Command> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        log.warn("Enrollment writer stopped with {} queued commands, failing them", remaining.size());
+        IllegalStateException exception = new IllegalStateException("Enrollment writer stopped");
+        remaining.forEach(command -> command.future().completeExceptionally(exception));
+    }
+
+    private void fillBatch(List<Command> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Command next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Command> batch) {
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> batch.stream().map(this::apply).toList());
+        } catch (RuntimeException exception) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(exception);
+                return;
+            }
+            log.debug("Enrollment batch of {} failed, retrying commands one by one", batch.size(), exception);
+            batch.forEach(command -> commit(List.of(command)));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Command command = batch.get(i);
+            Outcome outcome = outcomes.get(i);
+            if (outcome.error() == null) {
+                eventPublisher.publishEvent(new EnrollmentChangedEvent(
+                        command.enrollment().getStudentId(),
+                        command.enrollment().getCourseId()
+                ));
+            }
+            outcome.completeFuture(command.future());
+        }
+        log.debug("Enrollment batch of {} committed", batch.size());
+    }
+
+    private Outcome apply(Command command) {
+        Enrollment enrollment = command.enrollment();
+        if (command.type() == CommandType.UNENROLL) {
+            enrollmentRepositoryPort.deleteById(enrollment.getId());
+            courseSectionRepositoryPort.releaseSeat(enrollment.getSectionId());
+            return new Outcome(enrollment, null);
+        }
+
+        Optional<EligibilityViolation> violation = recheckStudentRules(enrollment);
+        if (violation.isPresent()) {
+            return new Outcome(null, violation.get().toException());
+        }
+        if (!courseSectionRepositoryPort.reserveSeat(enrollment.getSectionId())) {
+            return new Outcome(null, new CourseSectionFullException(enrollment.getSectionId()));
+        }
+        return new Outcome(enrollmentRepositoryPort.save(enrollment), null);
+    }
+
+    /**
+     * Reads sit in the batch transaction, so they see the commands applied earlier in the same batch.
+     * Enrollments in the target course are left out: a repeated request must still reach the unique
+     * constraint, which callers answer like a repeated request.
+     */
+    private Optional<EligibilityViolation> recheckStudentRules(Enrollment enrollment) {
+        List<Enrollment> otherEnrollments = enrollmentRepositoryPort
+                .findByStudentIdAndSemesterId(enrollment.getStudentId(), enrollment.getSemesterId())
+                .stream()
+                .filter(existing -> !Objects.equals(existing.getCourseId(), enrollment.getCourseId()))
+                .toList();
+        if (otherEnrollments.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CourseSection targetSection = courseSectionRepositoryPort
+                .findByCourseIdAndSemesterId(enrollment.getCourseId(), enrollment.getSemesterId())
+                .stream()
+                .filter(section -> Objects.equals(section.getId(), enrollment.getSectionId()))
+                .findFirst()
+                .orElseThrow(() -> new CourseSectionNotFoundException(enrollment.getSectionId()));
+
+        Set<Integer> enrolledSectionIds = otherEnrollments.stream()
+                .map(Enrollment::getSectionId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<CourseSection> enrolledSections = courseSectionRepositoryPort
+                .findByCourseIdInAndSemesterId(
+                        otherEnrollments.stream().map(Enrollment::getCourseId).distinct().toList(),
+                        enrollment.getSemesterId())
+                .stream()
+                .filter(section -> enrolledSectionIds.contains(section.getId()))
+                .toList();
+
+        return enrollmentEligibilityService.recheckAgainstCurrentEnrollments(
+                targetSection,
+                otherEnrollments,
+                enrolledSections,
+                null
+        );
+    }
+
+    private enum CommandType {
+        ENROLL,
+        UNENROLL
+    }
+
+    private record Command(CommandType type, Enrollment enrollment, CompletableFuture<Enrollment> future) {
+    }
+
+    private record Outcome(Enrollment enrollment, RuntimeException error) {
+
+        void completeFuture(CompletableFuture<Enrollment> future) {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(enrollment);
+            }
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.maplewood.infrastructure.persistence.adapter;
 
 import com.maplewood.domain.semester.model.Semester;
 import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import com.maplewood.infrastructure.cache.CachedBatchLoader;
+import com.maplewood.infrastructure.cache.RefreshAheadCacheLoader;
 import com.maplewood.infrastructure.config.CacheConfig;
 import com.maplewood.infrastructure.persistence.entity.SemesterJpaEntity;
 import com.maplewood.infrastructure.persistence.repository.SemesterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,21 +23,49 @@ import java.util.Optional;
 public class SemesterRepositoryAdapter implements SemesterRepositoryPort {
 
     private final SemesterRepository semesterRepository;
+    private final CachedBatchLoader cachedBatchLoader;
 
     @Autowired
-    public SemesterRepositoryAdapter(SemesterRepository semesterRepository) {
+    public SemesterRepositoryAdapter(
+            SemesterRepository semesterRepository,
+            CachedBatchLoader cachedBatchLoader,
+            @Qualifier("activeSemesterCacheLoader") RefreshAheadCacheLoader activeSemesterCacheLoader) {
         this.semesterRepository = semesterRepository;
+        this.cachedBatchLoader = cachedBatchLoader;
+        activeSemesterCacheLoader.register(CacheConfig.ACTIVE_SEMESTER_KEY, () -> loadActiveSemester().orElse(null));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.SEMESTER_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Semester> findById(Integer id) {
         return semesterRepository.findById(id)
                 .map(this::toDomain);
     }
 
     @Override
-    @Cacheable(cacheNames = CacheConfig.ACTIVE_SEMESTER_CACHE, key = "'active'")
+    public List<Semester> findAllById(List<Integer> ids) {
+        return cachedBatchLoader.loadAll(
+                CacheConfig.SEMESTER_BY_ID_CACHE,
+                ids,
+                Semester.class,
+                Semester::getId,
+                missedIds -> semesterRepository.findAllById(missedIds)
+                        .stream()
+                        .map(this::toDomain)
+                        .toList()
+        );
+    }
+
+    /**
+     * Loaded and refreshed ahead of expiry through the cache loader registered in the constructor.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_SEMESTER_CACHE, key = "T(com.maplewood.infrastructure.config.CacheConfig).ACTIVE_SEMESTER_KEY")
     public Optional<Semester> findActiveSemester() {
+        return loadActiveSemester();
+    }
+
+    private Optional<Semester> loadActiveSemester() {
         return semesterRepository.findByIsActiveTrue()
                 .map(this::toDomain);
     }
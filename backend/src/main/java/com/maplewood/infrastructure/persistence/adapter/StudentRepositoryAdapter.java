@@ -2,10 +2,15 @@ package com.maplewood.infrastructure.persistence.adapter;
 
 import com.maplewood.domain.student.model.Student;
 import com.maplewood.domain.student.port.StudentRepositoryPort;
+import com.maplewood.infrastructure.cache.CachedBatchLoader;
+import com.maplewood.infrastructure.config.CacheConfig;
 import com.maplewood.infrastructure.persistence.entity.StudentJpaEntity;
 import com.maplewood.infrastructure.persistence.repository.StudentRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -15,21 +20,44 @@ import java.util.Optional;
 public class StudentRepositoryAdapter implements StudentRepositoryPort {
 
     private final StudentRepository studentRepository;
+    private final CachedBatchLoader cachedBatchLoader;
 
-    public StudentRepositoryAdapter(StudentRepository studentRepository) {
+    public StudentRepositoryAdapter(StudentRepository studentRepository, CachedBatchLoader cachedBatchLoader) {
         this.studentRepository = studentRepository;
+        this.cachedBatchLoader = cachedBatchLoader;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.STUDENT_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Student> findById(Integer id) {
         return studentRepository.findById(id).map(this::toDomain);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.STUDENT_BY_EMAIL_CACHE, key = "#email", unless = "#result == null")
     public Optional<Student> findByEmail(String email) {
         return studentRepository.findByEmail(email).map(this::toDomain);
     }
 
+    /**
+     * Also stores every student in the by-id cache and every student with an email in the by-email cache,
+     * so later enrollments and logins are hits.
+     */
+    @Override
+    public List<Student> findAll() {
+        List<Student> students = studentRepository.findAll()
+                .stream()
+                .map(this::toDomain)
+                .toList();
+        cachedBatchLoader.putAll(CacheConfig.STUDENT_BY_ID_CACHE, students, Student::getId);
+        cachedBatchLoader.putAll(
+                CacheConfig.STUDENT_BY_EMAIL_CACHE,
+                students.stream().filter(student -> Objects.nonNull(student.getEmail())).toList(),
+                Student::getEmail
+        );
+        return students;
+    }
+
     private Student toDomain(StudentJpaEntity entity) {
         return new Student(
                 entity.getId(),
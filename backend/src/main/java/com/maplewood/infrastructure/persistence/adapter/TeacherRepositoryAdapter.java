@@ -2,19 +2,15 @@ package com.maplewood.infrastructure.persistence.adapter;
 
 import com.maplewood.domain.teacher.model.Teacher;
 import com.maplewood.domain.teacher.port.TeacherRepositoryPort;
+import com.maplewood.infrastructure.cache.CachedBatchLoader;
 import com.maplewood.infrastructure.config.CacheConfig;
 import com.maplewood.infrastructure.persistence.entity.TeacherJpaEntity;
 import com.maplewood.infrastructure.persistence.repository.TeacherRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -26,70 +22,45 @@ import java.util.stream.Collectors;
 public class TeacherRepositoryAdapter implements TeacherRepositoryPort {
 
     private final TeacherRepository teacherRepository;
-    private final CacheManager cacheManager;
+    private final CachedBatchLoader cachedBatchLoader;
 
     @Autowired
-    public TeacherRepositoryAdapter(TeacherRepository teacherRepository, CacheManager cacheManager) {
+    public TeacherRepositoryAdapter(TeacherRepository teacherRepository, CachedBatchLoader cachedBatchLoader) {
         this.teacherRepository = teacherRepository;
-        this.cacheManager = cacheManager;
+        this.cachedBatchLoader = cachedBatchLoader;
     }
 
     @Override
-    @Cacheable(cacheNames = CacheConfig.TEACHER_BY_ID_CACHE, key = "#id")
+    @Cacheable(cacheNames = CacheConfig.TEACHER_BY_ID_CACHE, key = "#id", unless = "#result == null")
     public Optional<Teacher> findById(Integer id) {
         return teacherRepository.findById(id).map(this::toDomain);
     }
 
     @Override
     public List<Teacher> findAllById(List<Integer> ids) {
-        if (ids == null || ids.isEmpty()) {
-            return List.of();
-        }
-
-        Cache cache = cacheManager.getCache(CacheConfig.TEACHER_BY_ID_CACHE);
-
-        if (cache == null) {
-            return teacherRepository.findAllById(ids)
-                    .stream()
-                    .map(this::toDomain)
-                    .collect(Collectors.toList());
-        }
-
-        Map<Integer, Teacher> teachersById = new LinkedHashMap<>();
-        List<Integer> missedIds = new ArrayList<>();
-        for (Integer id : ids) {
-            if (id == null || teachersById.containsKey(id)) {
-                continue;
-            }
-            Teacher cachedTeacher = cache.get(id, Teacher.class);
-            if (cachedTeacher != null) {
-                teachersById.put(id, cachedTeacher);
-            } else {
-                missedIds.add(id);
-            }
-        }
-
-        if (!missedIds.isEmpty()) {
-            teacherRepository.findAllById(missedIds)
-                    .stream()
-                    .map(this::toDomain)
-                    .forEach(teacher -> {
-                        teachersById.put(teacher.getId(), teacher);
-                        cache.put(teacher.getId(), teacher);
-                    });
-        }
+        return cachedBatchLoader.loadAll(
+                CacheConfig.TEACHER_BY_ID_CACHE,
+                ids,
+                Teacher.class,
+                Teacher::getId,
+                missedIds -> teacherRepository.findAllById(missedIds)
+                        .stream()
+                        .map(this::toDomain)
+                        .toList()
+        );
+    }
 
-        List<Teacher> orderedTeachers = new ArrayList<>();
-        for (Integer id : ids) {
-            if (id == null) {
-                continue;
-            }
-            Teacher teacher = teachersById.get(id);
-            if (teacher != null) {
-                orderedTeachers.add(teacher);
-            }
-        }
-        return orderedTeachers;
+    /**
+     * Also stores every teacher in the by-id cache, so later findById/findAllById calls are hits.
+     */
+    @Override
+    public List<Teacher> findAll() {
+        List<Teacher> teachers = teacherRepository.findAll()
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        cachedBatchLoader.putAll(CacheConfig.TEACHER_BY_ID_CACHE, teachers, Teacher::getId);
+        return teachers;
     }
 
     private Teacher toDomain(TeacherJpaEntity entity) {
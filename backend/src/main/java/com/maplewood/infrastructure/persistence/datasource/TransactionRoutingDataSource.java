@@ -0,0 +1,28 @@
+package com.maplewood.infrastructure.persistence.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-write transactions to the single writer connection and everything else
+ * (@Transactional(readOnly = true) work, work outside a transaction) to the reader pool, so reads never
+ * queue behind enrollment writes. Flyway is given the writer pool directly (see SqliteDataSourceConfig).
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the transaction flags are only bound to the
+ * thread after the transaction manager has asked for a connection.
+ * Part of Infrastructure Layer
+ */
+public class TransactionRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        READER,
+        WRITER
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readWriteTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readWriteTransaction ? Route.WRITER : Route.READER;
+    }
+}
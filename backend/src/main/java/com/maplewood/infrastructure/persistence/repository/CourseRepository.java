@@ -1,6 +1,7 @@
 package com.maplewood.infrastructure.persistence.repository;
 
 import com.maplewood.infrastructure.persistence.entity.CourseJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,4 +18,61 @@ import java.util.List;
  */
 @Repository
 public interface CourseRepository extends JpaRepository<CourseJpaEntity, Integer> {
+
+    /**
+     * Shared course search filter; every parameter is optional (null disables it).
+     * Open seats are checked against course_sections of :openSeatsSemesterId.
+     */
+    String SEARCH_FILTER = """
+            WHERE (:gradeLevel IS NULL OR ((c.gradeLevelMin IS NULL OR c.gradeLevelMin <= :gradeLevel)
+                    AND (c.gradeLevelMax IS NULL OR c.gradeLevelMax >= :gradeLevel)))
+              AND (:courseType IS NULL OR c.courseType = :courseType)
+              AND (:specializationId IS NULL OR c.specializationId = :specializationId)
+              AND (:semesterOrder IS NULL OR c.semesterOrder = :semesterOrder)
+              AND (:textPattern IS NULL OR LOWER(c.code) LIKE :textPattern ESCAPE '\\'
+                    OR LOWER(c.name) LIKE :textPattern ESCAPE '\\')
+              AND (:onlyWithOpenSeats = false OR EXISTS (
+                    SELECT 1 FROM CourseSectionJpaEntity s
+                    WHERE s.courseId = c.id
+                      AND s.semesterId = :openSeatsSemesterId
+                      AND s.enrolledCount < s.capacity))
+            """;
+
+    /**
+     * Course search ordered by (code, id), starting after the given keyset position
+     */
+    @Query("SELECT c FROM CourseJpaEntity c " + SEARCH_FILTER + """
+              AND (:afterCode IS NULL OR c.code > :afterCode OR (c.code = :afterCode AND c.id > :afterId))
+            ORDER BY c.code, c.id
+            """)
+    List<CourseJpaEntity> searchOrderByCode(
+            @Param("gradeLevel") Integer gradeLevel,
+            @Param("courseType") String courseType,
+            @Param("specializationId") Integer specializationId,
+            @Param("semesterOrder") Integer semesterOrder,
+            @Param("textPattern") String textPattern,
+            @Param("onlyWithOpenSeats") boolean onlyWithOpenSeats,
+            @Param("openSeatsSemesterId") Integer openSeatsSemesterId,
+            @Param("afterCode") String afterCode,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
+
+    /**
+     * Course search ordered by (name, id), starting after the given keyset position
+     */
+    @Query("SELECT c FROM CourseJpaEntity c " + SEARCH_FILTER + """
+              AND (:afterName IS NULL OR c.name > :afterName OR (c.name = :afterName AND c.id > :afterId))
+            ORDER BY c.name, c.id
+            """)
+    List<CourseJpaEntity> searchOrderByName(
+            @Param("gradeLevel") Integer gradeLevel,
+            @Param("courseType") String courseType,
+            @Param("specializationId") Integer specializationId,
+            @Param("semesterOrder") Integer semesterOrder,
+            @Param("textPattern") String textPattern,
+            @Param("onlyWithOpenSeats") boolean onlyWithOpenSeats,
+            @Param("openSeatsSemesterId") Integer openSeatsSemesterId,
+            @Param("afterName") String afterName,
+            @Param("afterId") Integer afterId,
+            Pageable pageable);
 }
@@ -2,9 +2,13 @@ package com.maplewood.infrastructure.persistence.repository;
 
 import com.maplewood.infrastructure.persistence.entity.CourseSectionJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA Repository for CourseSection
@@ -22,4 +26,75 @@ public interface CourseSectionRepository extends JpaRepository<CourseSectionJpaE
      * Find all course sections for multiple courses in a specific semester (batch loading)
      */
     List<CourseSectionJpaEntity> findByCourseIdInAndSemesterId(List<Integer> courseIds, Integer semesterId);
+
+    /**
+     * Conditionally take one seat: only succeeds while enrolled_count is below capacity
+     *
+     * @return number of updated rows (0 when the section is full or does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE CourseSectionJpaEntity s
+            SET s.enrolledCount = s.enrolledCount + 1
+            WHERE s.id = :sectionId AND s.enrolledCount < s.capacity
+            """)
+    int incrementEnrolledCountIfAvailable(@Param("sectionId") Integer sectionId);
+
+    /**
+     * Give back one seat, never going below zero
+     *
+     * @return number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE CourseSectionJpaEntity s
+            SET s.enrolledCount = s.enrolledCount - 1
+            WHERE s.id = :sectionId AND s.enrolledCount > 0
+            """)
+    int decrementEnrolledCount(@Param("sectionId") Integer sectionId);
+
+    /**
+     * Overwrite enrolled_count with an absolute value (seat ledger write-behind)
+     *
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE CourseSectionJpaEntity s SET s.enrolledCount = :enrolledCount WHERE s.id = :sectionId")
+    int updateEnrolledCount(@Param("sectionId") Integer sectionId, @Param("enrolledCount") Integer enrolledCount);
+
+    /**
+     * Capacity and number of enrollment rows of every section (seat ledger seed)
+     */
+    @Query(value = """
+            SELECT cs.id AS sectionId, cs.capacity AS capacity, COUNT(se.id) AS enrolledCount
+            FROM course_sections cs
+            LEFT JOIN student_enrollments se ON se.section_id = cs.id
+            GROUP BY cs.id, cs.capacity
+            """, nativeQuery = true)
+    List<SectionSeatCountProjection> findAllSeatCounts();
+
+    /**
+     * Capacity and number of enrollment rows of one section
+     */
+    @Query(value = """
+            SELECT cs.id AS sectionId, cs.capacity AS capacity, COUNT(se.id) AS enrolledCount
+            FROM course_sections cs
+            LEFT JOIN student_enrollments se ON se.section_id = cs.id
+            WHERE cs.id = :sectionId
+            GROUP BY cs.id, cs.capacity
+            """, nativeQuery = true)
+    Optional<SectionSeatCountProjection> findSeatCount(@Param("sectionId") Integer sectionId);
+
+    /**
+     * Reset enrolled_count to the number of enrollment rows wherever the two disagree
+     *
+     * @return number of repaired sections
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE course_sections
+            SET enrolled_count = (SELECT COUNT(*) FROM student_enrollments se WHERE se.section_id = course_sections.id)
+            WHERE enrolled_count IS NOT (SELECT COUNT(*) FROM student_enrollments se WHERE se.section_id = course_sections.id)
+            """, nativeQuery = true)
+    int repairEnrolledCounts();
 }
@@ -0,0 +1,9 @@
+package com.maplewood.infrastructure.persistence.repository;
+
+public interface SectionSeatCountProjection {
+    Integer getSectionId();
+
+    Integer getCapacity();
+
+    Integer getEnrolledCount();
+}
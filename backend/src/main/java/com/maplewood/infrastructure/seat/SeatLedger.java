@@ -0,0 +1,241 @@
+package com.maplewood.infrastructure.seat;
+
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
+import com.maplewood.infrastructure.persistence.repository.CourseSectionRepository;
+import com.maplewood.infrastructure.persistence.repository.SectionSeatCountProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory per-section seat ledger with write-behind to course_sections.enrolled_count.
+ *
+ * Counters are seeded from the enrollment rows at startup (and lazily for unknown sections), reserved and
+ * released with lock-free CAS on a per-section AtomicInteger, and flushed back in one transaction
+ * per flush interval. A full section is rejected without any database round trip.
+ *
+ * enrolled_count is only a write-behind copy, so a crash can leave it behind the committed enrollments:
+ * seeding counts student_enrollments instead and repairs enrolled_count where the two disagree.
+ *
+ * The ledger is node-local and flushes absolute counts: enable it only when a single instance writes
+ * to the database. It refuses to start when a shared L2 cache (cache.l2.provider) signals several nodes.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+@Component
+public class SeatLedger {
+
+    private final CourseSectionRepository courseSectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Map<Integer, SeatCounter> countersBySectionId = new ConcurrentHashMap<>();
+    private final Set<Integer> dirtySectionIds = ConcurrentHashMap.newKeySet();
+
+    public SeatLedger(
+            CourseSectionRepository courseSectionRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${enrollment.seat-ledger.enabled:false}") boolean enabled,
+            @Value("${cache.l2.provider:none}") String sharedCacheProvider) {
+        if (enabled && !"none".equals(sharedCacheProvider)) {
+            throw new IllegalStateException("enrollment.seat-ledger.enabled requires a single node, but cache.l2.provider="
+                    + sharedCacheProvider + " configures several: disable the seat ledger");
+        }
+        this.courseSectionRepository = courseSectionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs before StartupWarmUp, which builds section caches and the catalog snapshot from ledger counts.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!enabled) {
+            return;
+        }
+        List<SectionSeatCountProjection> seatCounts = transactionTemplate.execute(status -> {
+            int repaired = courseSectionRepository.repairEnrolledCounts();
+            if (repaired > 0) {
+                log.warn("Seat ledger repaired enrolled_count of {} sections from student_enrollments", repaired);
+            }
+            return courseSectionRepository.findAllSeatCounts();
+        });
+        seatCounts.forEach(seatCount -> countersBySectionId.putIfAbsent(seatCount.getSectionId(), toCounter(seatCount)));
+        log.info("Seat ledger seeded with {} sections", seatCounts.size());
+    }
+
+    /**
+     * Whether the section currently has a free seat, without reserving it.
+     */
+    public boolean hasAvailableSeat(Integer sectionId) {
+        SeatCounter counter = counterFor(sectionId);
+        return counter != null && counter.hasAvailableSeat();
+    }
+
+    /**
+     * Reserve one seat. When called inside a transaction the seat is given back on rollback.
+     *
+     * @return false when the section is full or does not exist
+     */
+    public boolean reserve(Integer sectionId) {
+        SeatCounter counter = counterFor(sectionId);
+        if (counter == null || !counter.tryIncrement()) {
+            return false;
+        }
+        dirtySectionIds.add(sectionId);
+        onRollback(() -> {
+            counter.decrement();
+            dirtySectionIds.add(sectionId);
+        });
+        return true;
+    }
+
+    /**
+     * Release one seat. When called inside a transaction the seat is taken again on rollback.
+     */
+    public void release(Integer sectionId) {
+        SeatCounter counter = counterFor(sectionId);
+        if (counter == null || !counter.decrement()) {
+            return;
+        }
+        dirtySectionIds.add(sectionId);
+        onRollback(() -> {
+            counter.forceIncrement();
+            dirtySectionIds.add(sectionId);
+        });
+    }
+
+    /**
+     * Write the current count of every changed section back in a single transaction.
+     */
+    @Scheduled(fixedDelayString = "${enrollment.seat-ledger.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled || dirtySectionIds.isEmpty()) {
+            return;
+        }
+
+        List<Integer> sectionIds = new ArrayList<>(dirtySectionIds);
+        sectionIds.forEach(dirtySectionIds::remove);
+        try {
+            transactionTemplate.executeWithoutResult(status -> sectionIds.forEach(sectionId ->
+                    courseSectionRepository.updateEnrolledCount(sectionId, countersBySectionId.get(sectionId).enrolled())
+            ));
+        } catch (RuntimeException exception) {
+            dirtySectionIds.addAll(sectionIds);
+            log.error("Seat ledger flush failed for {} sections, will retry", sectionIds.size(), exception);
+            return;
+        }
+
+        eventPublisher.publishEvent(new SectionSeatsChangedEvent(sectionIds));
+        log.debug("Seat ledger flushed {} sections", sectionIds.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private SeatCounter counterFor(Integer sectionId) {
+        if (sectionId == null) {
+            return null;
+        }
+        SeatCounter counter = countersBySectionId.get(sectionId);
+        if (counter != null) {
+            return counter;
+        }
+        return courseSectionRepository.findSeatCount(sectionId)
+                .map(seatCount -> countersBySectionId.computeIfAbsent(sectionId, id -> toCounter(seatCount)))
+                .orElse(null);
+    }
+
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
+    private SeatCounter toCounter(SectionSeatCountProjection seatCount) {
+        int capacity = seatCount.getCapacity() == null ? 0 : seatCount.getCapacity();
+        int enrolled = seatCount.getEnrolledCount() == null ? 0 : seatCount.getEnrolledCount();
+        return new SeatCounter(capacity, enrolled);
+    }
+
+    private static final class SeatCounter {
+        private final int capacity;
+        private final AtomicInteger enrolled;
+
+        private SeatCounter(int capacity, int enrolled) {
+            this.capacity = capacity;
+            this.enrolled = new AtomicInteger(enrolled);
+        }
+
+        private boolean hasAvailableSeat() {
+            return enrolled.get() < capacity;
+        }
+
+        private boolean tryIncrement() {
+            int current;
+            do {
+                current = enrolled.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!enrolled.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void forceIncrement() {
+            enrolled.incrementAndGet();
+        }
+
+        private boolean decrement() {
+            int current;
+            do {
+                current = enrolled.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!enrolled.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private int enrolled() {
+            return enrolled.get();
+        }
+    }
+}
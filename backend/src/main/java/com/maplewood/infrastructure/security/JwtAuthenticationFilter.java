@@ -1,25 +1,22 @@
 package com.maplewood.infrastructure.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 /**
  * Filter that validates the Authorization: Bearer JWT header and sets
  * the Spring Security context when a valid token is present.
+ * Tokens seen before are answered from VerifiedTokenCache without re-verifying the signature,
+ * and the cached StudentPrincipal is set as the authentication as is.
  */
 @Slf4j
 @Component
@@ -54,19 +51,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Claims claims = jwtTokenService.validateToken(token);
-            String email = claims.getSubject();
-            Integer userId = claims.get("userId", Integer.class);
+            StudentPrincipal principal = jwtTokenService.verify(token).principal();
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                var authToken = new UsernamePasswordAuthenticationToken(
-                        userId,
-                        null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                log.debug("Authenticated user: {} (id: {})", email, userId);
+            if (principal.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                SecurityContextHolder.getContext().setAuthentication(principal);
+                log.debug("Authenticated user: {} (id: {})", principal.email(), principal.studentId());
             }
 
         } catch (Exception e) {
@@ -1,45 +1,69 @@
 package com.maplewood.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maplewood.application.auth.port.IssuedToken;
 import com.maplewood.application.auth.port.TokenService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 /**
  * JWT token generator and validator implementation.
+ * The parser is built once and shared (it is immutable and thread-safe); verified tokens are
+ * remembered by VerifiedTokenCache until they expire.
+ * A login repeated within jwt.reuse-window gets the token issued the first time, which is already
+ * in VerifiedTokenCache, instead of a new one to sign and later verify.
  */
 @Component
 public class JwtTokenService implements TokenService {
 
+    static final String REUSE_CACHE_NAME = "issuedTokenReuseCache";
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Cache<StudentPrincipal, RecentToken> recentlyIssued;
     private final long expirationMs;
 
     public JwtTokenService(
+            VerifiedTokenCache verifiedTokenCache,
+            MeterRegistry meterRegistry,
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-ms:864000000}") long expirationMs) {
+            @Value("${jwt.expiration-ms:864000000}") long expirationMs,
+            @Value("${jwt.reuse-window:PT1M}") Duration reuseWindow) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.recentlyIssued = Caffeine.newBuilder()
+                .expireAfterWrite(reuseWindow)
+                .maximumSize(reuseWindow.isZero() ? 0 : 50_000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentlyIssued, REUSE_CACHE_NAME);
         this.expirationMs = expirationMs;
     }
 
     @Override
-    public String generateToken(Integer userId, String email) {
-        Date now = new Date();
-        Date expiration = new Date(now.getTime() + expirationMs);
-
-        return Jwts.builder()
-                .subject(email)
-                .claim("email", email)
-                .claim("userId", userId)
-                .issuedAt(now)
-                .expiration(expiration)
-                .signWith(secretKey)
-                .compact();
+    public IssuedToken generateToken(Integer userId, String email, Integer gradeLevel) {
+        StudentPrincipal principal = new StudentPrincipal(userId, gradeLevel, email);
+        RecentToken issued = recentlyIssued.get(principal, this::issue);
+        long expiresIn = Duration.between(Instant.now(), issued.expiresAt()).toMillis();
+        return new IssuedToken(issued.token(), Math.min(expiresIn, expirationMs));
     }
 
     /**
@@ -50,10 +74,55 @@ public class JwtTokenService implements TokenService {
      * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
      */
     public Claims validateToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
+
+    /**
+     * Identity of a valid token, answered from VerifiedTokenCache when the token was verified before.
+     *
+     * @param token the JWT token string
+     * @return the StudentPrincipal and expiry carried by the token
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        return verifiedTokenCache.get(token, this::toVerifiedToken);
+    }
+
+    /**
+     * Signs a new token and registers it as verified, so the first authenticated request skips the check too.
+     */
+    private RecentToken issue(StudentPrincipal principal) {
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + expirationMs);
+
+        String token = Jwts.builder()
+                .subject(principal.email())
+                .claim("email", principal.email())
+                .claim("userId", principal.studentId())
+                .claim("gradeLevel", principal.gradeLevel())
+                .issuedAt(now)
+                .expiration(expiration)
+                .signWith(secretKey)
+                .compact();
+
+        // exp is serialized in whole seconds
+        Instant expiresAt = expiration.toInstant().truncatedTo(ChronoUnit.SECONDS);
+        verifiedTokenCache.put(token, new VerifiedToken(principal, expiresAt));
+        return new RecentToken(token, expiresAt);
+    }
+
+    private VerifiedToken toVerifiedToken(String token) {
+        Claims claims = validateToken(token);
+        Date expiration = claims.getExpiration();
+        StudentPrincipal principal = new StudentPrincipal(
+                claims.get("userId", Integer.class),
+                claims.get("gradeLevel", Integer.class),
+                claims.getSubject()
+        );
+        return new VerifiedToken(principal, expiration == null ? null : expiration.toInstant());
+    }
+
+    private record RecentToken(String token, Instant expiresAt) {
+    }
 }
@@ -1,29 +1,77 @@
 package com.maplewood.infrastructure.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Security configuration for JWT-based authentication.
  * Requires Authorization: Bearer &lt;token&gt; header for protected endpoints.
+ * Actuator endpoints other than health and info take HTTP Basic operator credentials
+ * (management.operator.*) instead; a student token never grants access to them.
  */
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String OPERATOR_ROLE = "OPERATOR";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * Actuator chain: health probes and info are public, the rest needs the operator role.
+     * The JWT filter is not part of this chain, so student tokens are not considered here.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                        .anyRequest().hasRole(OPERATOR_ROLE))
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
+    /**
+     * The operator account for the actuator chain. The password is stored with its encoder id,
+     * e.g. {bcrypt}$2a$10$...; when it is not set there is no operator and those endpoints always answer 401.
+     */
+    @Bean
+    public UserDetailsService operatorUserDetailsService(
+            @Value("${management.operator.username:operator}") String username,
+            @Value("${management.operator.password:}") String password) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            users.createUser(User.withUsername(username)
+                    .password(password)
+                    .roles(OPERATOR_ROLE)
+                    .build());
+        }
+        return users;
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(Customizer.withDefaults())
@@ -43,8 +91,6 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/v3/api-docs/**",
                                 "/webjars/**").permitAll()
-                        // Actuator health
-                        .requestMatchers("/actuator/**").permitAll()
                         // All other API endpoints require Authorization: Bearer token
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().authenticated())
@@ -0,0 +1,59 @@
+package com.maplewood.infrastructure.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable authentication of a student, built once per verified token and cached with it,
+ * so authenticated requests reuse it instead of allocating a token, authorities and request details.
+ *
+ * The principal is the student id, as with the UsernamePasswordAuthenticationToken it replaces.
+ * Grade level and email are the ones signed into the token at login; gradeLevel is null for tokens
+ * issued before the claim existed.
+ * Part of Infrastructure Layer
+ */
+public record StudentPrincipal(Integer studentId, Integer gradeLevel, String email) implements Authentication {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return studentId;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (!authenticated) {
+            throw new IllegalArgumentException("StudentPrincipal is immutable and always authenticated");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(studentId);
+    }
+}
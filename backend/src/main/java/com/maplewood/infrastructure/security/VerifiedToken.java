@@ -0,0 +1,10 @@
+package com.maplewood.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * A JWT whose signature and expiry have been checked, with the authentication built from its claims.
+ * Part of Infrastructure Layer
+ */
+public record VerifiedToken(StudentPrincipal principal, Instant expiresAt) {
+}
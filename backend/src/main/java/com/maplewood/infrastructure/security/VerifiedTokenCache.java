@@ -0,0 +1,90 @@
+package com.maplewood.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified JWTs, so a token presented again skips the HMAC check and claims parsing.
+ *
+ * Entries are keyed by the SHA-256 digest of the token, so raw tokens are not kept in memory, and expire
+ * at the token's exp claim. Only successfully verified tokens and tokens issued by this node are cached.
+ * The cache is node-local and stays out of the CacheManager, so verified identities never reach the shared L2.
+ * Statistics are published to Micrometer as cache.* with cache=verifiedTokenCache.
+ * Part of Infrastructure Layer
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "verifiedTokenCache";
+
+    private final Cache<String, VerifiedToken> tokensByDigest;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.verified-cache.max-size:100000}") long maxSize) {
+        this.tokensByDigest = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokensByDigest, CACHE_NAME);
+    }
+
+    /**
+     * @param verifier verifies the token on a miss; its exceptions propagate and nothing is cached
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        return tokensByDigest.get(digest(token), ignored -> verifier.apply(token));
+    }
+
+    /**
+     * Registers a token this node has just signed, so it is never verified here.
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        tokensByDigest.put(digest(token), verifiedToken);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.maplewood.infrastructure.warmup;
+
+import com.maplewood.application.course.dto.CourseSearchRequestDTO;
+import com.maplewood.application.course.snapshot.CourseCatalogSnapshotService;
+import com.maplewood.application.course.usecase.GetCourseByIdUseCase;
+import com.maplewood.application.course.usecase.SearchCoursesUseCase;
+import com.maplewood.application.student.usecase.CheckMyEligibilityUseCase;
+import com.maplewood.application.student.usecase.GetMyCourseHistoryUseCase;
+import com.maplewood.application.student.usecase.GetMyEnrollmentsUseCase;
+import com.maplewood.application.student.usecase.GetMyProfileUseCase;
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.port.CourseRepositoryPort;
+import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
+import com.maplewood.domain.semester.model.Semester;
+import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import com.maplewood.domain.student.port.StudentRepositoryPort;
+import com.maplewood.domain.teacher.port.TeacherRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Warms caches (and optionally the JIT) before the node takes traffic.
+ *
+ * 1. Preloads the active semester, all courses (list and by id), the active semester's sections, all teachers,
+ *    the students by email (for login) and the course catalog snapshot.
+ * 2. When warmup.jit-replay-iterations > 0, replays a read-only request mix through the use cases.
+ *
+ * Runs synchronously as an ApplicationReadyEvent listener ordered after SeatLedger.seed, so cached sections
+ * already see the ledger's counts. Spring Boot only switches readiness to ACCEPTING_TRAFFIC after every
+ * listener has returned, so /actuator/health/readiness reports DOWN until warm-up is done.
+ * A failing step is logged and skipped, the following steps still run; it never keeps the node out of rotation.
+ * Part of Infrastructure Layer
+ */
+@Slf4j
+@Component
+public class StartupWarmUp {
+
+    private final SemesterRepositoryPort semesterRepositoryPort;
+    private final CourseRepositoryPort courseRepositoryPort;
+    private final CourseSectionRepositoryPort courseSectionRepositoryPort;
+    private final TeacherRepositoryPort teacherRepositoryPort;
+    private final StudentRepositoryPort studentRepositoryPort;
+    private final CourseCatalogSnapshotService courseCatalogSnapshotService;
+    private final GetCourseByIdUseCase getCourseByIdUseCase;
+    private final SearchCoursesUseCase searchCoursesUseCase;
+    private final CheckMyEligibilityUseCase checkMyEligibilityUseCase;
+    private final GetMyProfileUseCase getMyProfileUseCase;
+    private final GetMyCourseHistoryUseCase getMyCourseHistoryUseCase;
+    private final GetMyEnrollmentsUseCase getMyEnrollmentsUseCase;
+    private final boolean enabled;
+    private final int jitReplayIterations;
+    private final Integer jitReplayStudentId;
+
+    public StartupWarmUp(
+            SemesterRepositoryPort semesterRepositoryPort,
+            CourseRepositoryPort courseRepositoryPort,
+            CourseSectionRepositoryPort courseSectionRepositoryPort,
+            TeacherRepositoryPort teacherRepositoryPort,
+            StudentRepositoryPort studentRepositoryPort,
+            CourseCatalogSnapshotService courseCatalogSnapshotService,
+            GetCourseByIdUseCase getCourseByIdUseCase,
+            SearchCoursesUseCase searchCoursesUseCase,
+            CheckMyEligibilityUseCase checkMyEligibilityUseCase,
+            GetMyProfileUseCase getMyProfileUseCase,
+            GetMyCourseHistoryUseCase getMyCourseHistoryUseCase,
+            GetMyEnrollmentsUseCase getMyEnrollmentsUseCase,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.jit-replay-iterations:0}") int jitReplayIterations,
+            @Value("${warmup.jit-replay-student-id:#{null}}") Integer jitReplayStudentId) {
+        this.semesterRepositoryPort = semesterRepositoryPort;
+        this.courseRepositoryPort = courseRepositoryPort;
+        this.courseSectionRepositoryPort = courseSectionRepositoryPort;
+        this.teacherRepositoryPort = teacherRepositoryPort;
+        this.studentRepositoryPort = studentRepositoryPort;
+        this.courseCatalogSnapshotService = courseCatalogSnapshotService;
+        this.getCourseByIdUseCase = getCourseByIdUseCase;
+        this.searchCoursesUseCase = searchCoursesUseCase;
+        this.checkMyEligibilityUseCase = checkMyEligibilityUseCase;
+        this.getMyProfileUseCase = getMyProfileUseCase;
+        this.getMyCourseHistoryUseCase = getMyCourseHistoryUseCase;
+        this.getMyEnrollmentsUseCase = getMyEnrollmentsUseCase;
+        this.enabled = enabled;
+        this.jitReplayIterations = jitReplayIterations;
+        this.jitReplayStudentId = jitReplayStudentId;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Integer semesterId = step("active semester", () -> semesterRepositoryPort.findActiveSemester()
+                .map(Semester::getId)
+                .orElse(null), null);
+        List<Integer> courseIds = step("courses", this::preloadCourses, List.of());
+        int sectionCount = step("sections", () -> preloadSections(semesterId, courseIds), 0);
+        int teacherCount = step("teachers", () -> teacherRepositoryPort.findAll().size(), 0);
+        int studentCount = step("students", () -> studentRepositoryPort.findAll().size(), 0);
+        step("course catalog snapshot", courseCatalogSnapshotService::getSnapshot, null);
+        log.info("Warm-up preloaded semester {}, {} courses, {} sections, {} teachers and {} students",
+                semesterId, courseIds.size(), sectionCount, teacherCount, studentCount);
+
+        step("request replay", () -> {
+            replayRequestMix(courseIds);
+            return null;
+        }, null);
+        log.info("Startup warm-up finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Runs one warm-up step; a failure is logged and the step's fallback returned, so later steps still run.
+     */
+    private static <T> T step(String name, Supplier<T> step, T fallback) {
+        try {
+            return step.get();
+        } catch (RuntimeException ex) {
+            log.warn("Warm-up step '{}' failed, skipping it", name, ex);
+            return fallback;
+        }
+    }
+
+    /**
+     * @return ids of all courses, for the section preload and the request replay
+     */
+    private List<Integer> preloadCourses() {
+        List<Integer> courseIds = courseRepositoryPort.findAll().stream()
+                .map(Course::getId)
+                .toList();
+        courseRepositoryPort.findAllById(courseIds);
+        return courseIds;
+    }
+
+    private int preloadSections(Integer semesterId, List<Integer> courseIds) {
+        if (semesterId == null || courseIds.isEmpty()) {
+            return 0;
+        }
+        // Same key as the catalog's batch load, plus the per-course lists read by course details and enrollment
+        int sectionCount = courseSectionRepositoryPort.findByCourseIdInAndSemesterId(courseIds, semesterId).size();
+        courseIds.forEach(courseId -> courseSectionRepositoryPort.findByCourseIdAndSemesterId(courseId, semesterId));
+        return sectionCount;
+    }
+
+    /**
+     * Read-only use cases only, so replaying never changes data or seat counts.
+     */
+    private void replayRequestMix(List<Integer> courseIds) {
+        if (jitReplayIterations <= 0) {
+            return;
+        }
+        Optional<Integer> studentId = Optional.ofNullable(jitReplayStudentId);
+        for (int i = 0; i < jitReplayIterations; i++) {
+            for (Integer courseId : courseIds) {
+                getCourseByIdUseCase.execute(courseId, null);
+            }
+            searchCoursesUseCase.execute(new CourseSearchRequestDTO(null, null, null, null, true, null, "name", null, 50));
+            searchCoursesUseCase.execute(new CourseSearchRequestDTO(null, null, null, null, null, "intro", null, null, 20));
+            studentId.ifPresent(id -> {
+                getMyProfileUseCase.execute(id);
+                getMyCourseHistoryUseCase.execute(id);
+                getMyEnrollmentsUseCase.execute(id);
+                checkMyEligibilityUseCase.execute(id, courseIds);
+            });
+        }
+        log.info("Warm-up replayed the request mix {} times{}", jitReplayIterations,
+                studentId.map(id -> " (student " + id + ")").orElse(""));
+    }
+}
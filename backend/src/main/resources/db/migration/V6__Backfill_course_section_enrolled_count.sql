@@ -0,0 +1,10 @@
+-- Migration V6: Backfill course_sections.enrolled_count from student_enrollments
+-- Seat reservation keeps enrolled_count in sync from now on; rows created before that
+-- never touched the counter, so recompute it once from the enrollments table.
+
+UPDATE course_sections
+SET enrolled_count = (
+    SELECT COUNT(*)
+    FROM student_enrollments se
+    WHERE se.section_id = course_sections.id
+);
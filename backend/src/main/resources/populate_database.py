@@ -358,23 +358,32 @@ def populate_courses(conn):
 
     print(f"✓ Added {len(prerequisite_updates)} prerequisite relationships")
 
-def populate_students(conn):
-    """Populate 400 students (100 per grade level)"""
+def populate_students(conn, per_grade=100, batch=None):
+    """Populate students (100 per grade level by default)
+
+    batch tags names and emails of additional generated populations
+    (see backend/loadtest/scale_database.py) so they stay unique.
+    """
     students = []
     used_names = set()
 
     for grade in [9, 10, 11, 12]:
-        for i in range(100):
+        for i in range(per_grade):
             # Generate unique name
-            while True:
+            if batch is None:
+                while True:
+                    first = random.choice(FIRST_NAMES)
+                    last = random.choice(LAST_NAMES)
+                    full_name = f"{first} {last} {grade}"
+                    if full_name not in used_names:
+                        used_names.add(full_name)
+                        break
+                email = f"{first.lower()}.{last.lower()}{grade}@student.maplewood.edu"
+            else:
                 first = random.choice(FIRST_NAMES)
                 last = random.choice(LAST_NAMES)
-                full_name = f"{first} {last} {grade}"
-                if full_name not in used_names:
-                    used_names.add(full_name)
-                    break
+                email = f"{first.lower()}.{last.lower()}{grade}.{batch}.{i}@student.maplewood.edu"
 
-            email = f"{first.lower()}.{last.lower()}{grade}@student.maplewood.edu"
             enrollment_year = 2024 - (grade - 9)
             expected_graduation = enrollment_year + 4
 
@@ -386,14 +395,20 @@ def populate_students(conn):
            VALUES (?, ?, ?, ?, ?, ?, ?)""",
         students
     )
-    print("✓ Populated 400 students (100 per grade)")
+    print(f"✓ Populated {len(students)} students ({per_grade} per grade)")
+
+def populate_student_course_history(conn, min_student_id=None):
+    """Generate realistic academic history for students based on their grade level
 
-def populate_student_course_history(conn):
-    """Generate realistic academic history for students based on their grade level"""
+    min_student_id limits generation to students with id >= min_student_id (newly added ones).
+    """
     print("Generating student course history...")
 
     # Get all students, courses, and semesters
-    students = conn.execute("SELECT id, grade_level, enrollment_year FROM students").fetchall()
+    students = conn.execute(
+        "SELECT id, grade_level, enrollment_year FROM students WHERE id >= ?",
+        (min_student_id or 0,)
+    ).fetchall()
     courses = conn.execute("""
         SELECT id, code, course_type, grade_level_min, grade_level_max,
                semester_order, prerequisite_id, credits
@@ -485,12 +500,24 @@ def populate_student_course_history(conn):
                 history_records.append((student_id, course_id, semester_id, status))
 
     # Insert all history records
-    conn.executemany(
-        """INSERT INTO student_course_history
-           (student_id, course_id, semester_id, status)
-           VALUES (?, ?, ?, ?)""",
-        history_records
-    )
+    history_columns = [row[1] for row in conn.execute("PRAGMA table_info(student_course_history)")]
+    if "course_section_id" in history_columns:
+        # Migrated database (V5): same fallback as the backfill, first section of the course+semester
+        conn.executemany(
+            """INSERT INTO student_course_history
+               (student_id, course_id, course_section_id, semester_id, status)
+               VALUES (?1, ?2, (SELECT cs.id FROM course_sections cs
+                                WHERE cs.course_id = ?2 AND cs.semester_id = ?3
+                                ORDER BY cs.id LIMIT 1), ?3, ?4)""",
+            history_records
+        )
+    else:
+        conn.executemany(
+            """INSERT INTO student_course_history
+               (student_id, course_id, semester_id, status)
+               VALUES (?, ?, ?, ?)""",
+            history_records
+        )
 
     print(f"✓ Generated {len(history_records)} student course history records")
 
@@ -0,0 +1,122 @@
+package com.maplewood.application.course.usecase;
+
+import com.maplewood.application.course.dto.CoursePageResponseDTO;
+import com.maplewood.application.course.dto.CourseSearchRequestDTO;
+import com.maplewood.domain.course.model.Course;
+import com.maplewood.domain.course.model.CourseSearchCriteria;
+import com.maplewood.domain.course.port.CourseRepositoryPort;
+import com.maplewood.domain.semester.port.SemesterRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cursor encoding and decoding of the keyset pagination.
+ */
+class SearchCoursesUseCaseTest {
+
+    private CourseRepositoryPort courseRepositoryPort;
+    private SearchCoursesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        courseRepositoryPort = mock(CourseRepositoryPort.class);
+        CourseDtoAssembler courseDtoAssembler = mock(CourseDtoAssembler.class);
+        when(courseDtoAssembler.toEnrichedDtos(any())).thenReturn(List.of());
+        useCase = new SearchCoursesUseCase(courseRepositoryPort, mock(SemesterRepositoryPort.class), courseDtoAssembler);
+    }
+
+    @Test
+    void nextCursorResumesAfterLastCourseOfPage() {
+        when(courseRepositoryPort.search(any())).thenReturn(List.of(
+                course(3, "ENG101", "English"),
+                course(8, "MAT101", "Algebra: Part 1"),
+                course(9, "SCI101", "Biology")));
+
+        CoursePageResponseDTO firstPage = useCase.execute(request("name", null, 2));
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        useCase.execute(request("name", firstPage.getNextCursor(), 2));
+
+        CourseSearchCriteria resumed = lastSearch();
+        assertThat(resumed.getAfterId()).isEqualTo(8);
+        assertThat(resumed.getAfterSortValue()).isEqualTo("Algebra: Part 1");
+        assertThat(resumed.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(courseRepositoryPort.search(any())).thenReturn(List.of(course(3, "ENG101", "English")));
+
+        assertThat(useCase.execute(request("code", null, 2)).getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        when(courseRepositoryPort.search(any())).thenReturn(List.of(
+                course(1, "??>>", "Odd"),
+                course(2, "ZZZ", "Last")));
+
+        String cursor = useCase.execute(request("code", null, 1)).getNextCursor();
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void cursorOfAnotherSortIsRejected() {
+        when(courseRepositoryPort.search(any())).thenReturn(List.of(
+                course(3, "ENG101", "English"),
+                course(8, "MAT101", "Algebra")));
+        String codeCursor = useCase.execute(request("code", null, 1)).getNextCursor();
+
+        assertThatThrownBy(() -> useCase.execute(request("name", codeCursor, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThatThrownBy(() -> useCase.execute(request("code", "not base64!", 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(request("code", encode("code:ENG101"), 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(request("code", encode("code:x:ENG101"), 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(courseRepositoryPort, never()).search(any());
+    }
+
+    private CourseSearchCriteria lastSearch() {
+        ArgumentCaptor<CourseSearchCriteria> criteria = ArgumentCaptor.forClass(CourseSearchCriteria.class);
+        verify(courseRepositoryPort, atLeastOnce()).search(criteria.capture());
+        return criteria.getValue();
+    }
+
+    private static CourseSearchRequestDTO request(String sort, String cursor, Integer limit) {
+        return new CourseSearchRequestDTO(null, null, null, null, null, null, sort, cursor, limit);
+    }
+
+    private static Course course(int id, String code, String name) {
+        Course course = new Course();
+        course.setId(id);
+        course.setCode(code);
+        course.setName(name);
+        return course;
+    }
+
+    private static String encode(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
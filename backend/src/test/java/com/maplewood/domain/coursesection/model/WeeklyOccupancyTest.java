@@ -0,0 +1,97 @@
+package com.maplewood.domain.coursesection.model;
+
+import com.maplewood.domain.coursesection.model.CourseSection.MeetingTime;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyOccupancyTest {
+
+    @Test
+    void overlappingMeetingsOnSameDayConflict() {
+        WeeklyOccupancy first = occupancy(meeting(DayOfWeek.MONDAY, "09:00", "10:00"));
+        WeeklyOccupancy second = occupancy(meeting(DayOfWeek.MONDAY, "09:59", "11:00"));
+
+        assertThat(first.overlaps(second)).isTrue();
+        assertThat(second.overlaps(first)).isTrue();
+    }
+
+    @Test
+    void backToBackMeetingsDoNotConflict() {
+        WeeklyOccupancy first = occupancy(meeting(DayOfWeek.MONDAY, "09:00", "09:02"));
+        WeeklyOccupancy second = occupancy(meeting(DayOfWeek.MONDAY, "09:02", "09:30"));
+
+        assertThat(first.overlaps(second)).isFalse();
+    }
+
+    @Test
+    void sameTimeOnDifferentDaysDoesNotConflict() {
+        WeeklyOccupancy monday = occupancy(meeting(DayOfWeek.MONDAY, "09:00", "10:00"));
+        WeeklyOccupancy friday = occupancy(meeting(DayOfWeek.FRIDAY, "09:00", "10:00"));
+
+        assertThat(monday.overlaps(friday)).isFalse();
+    }
+
+    @Test
+    void singleMinuteOverlapAcrossWordBoundaryConflicts() {
+        // Minute 63 (01:03) is the last bit of the first word, minute 64 (01:04) the first bit of the next
+        WeeklyOccupancy first = occupancy(meeting(DayOfWeek.TUESDAY, "01:00", "01:04"));
+        WeeklyOccupancy second = occupancy(meeting(DayOfWeek.TUESDAY, "01:03", "01:10"));
+        WeeklyOccupancy third = occupancy(meeting(DayOfWeek.TUESDAY, "01:04", "01:10"));
+
+        assertThat(first.overlaps(second)).isTrue();
+        assertThat(first.overlaps(third)).isFalse();
+    }
+
+    @Test
+    void lenientTimeFormatsGiveSameOccupancy() {
+        WeeklyOccupancy padded = occupancy(meeting(DayOfWeek.WEDNESDAY, "09:05", "10:00"));
+        WeeklyOccupancy unpadded = occupancy(meeting(DayOfWeek.WEDNESDAY, "9:05", "10:00"));
+        WeeklyOccupancy withSeconds = occupancy(meeting(DayOfWeek.WEDNESDAY, " 09:05:00 ", "10:00:00"));
+
+        assertThat(unpadded).isEqualTo(padded);
+        assertThat(withSeconds).isEqualTo(padded);
+    }
+
+    @Test
+    void meetingEndingAtMidnightOccupiesLastMinute() {
+        WeeklyOccupancy lateEvening = occupancy(meeting(DayOfWeek.THURSDAY, "23:00", "24:00"));
+        WeeklyOccupancy lastMinute = occupancy(meeting(DayOfWeek.THURSDAY, "23:59", "24:00"));
+
+        assertThat(lateEvening.overlaps(lastMinute)).isTrue();
+    }
+
+    @Test
+    void invalidMeetingsAreIgnored() {
+        WeeklyOccupancy occupancy = occupancy(
+                meeting(null, "09:00", "10:00"),
+                meeting(DayOfWeek.MONDAY, "nine", "10:00"),
+                meeting(DayOfWeek.MONDAY, "10:00", "09:00"),
+                null);
+
+        assertThat(occupancy.isEmpty()).isTrue();
+        assertThat(occupancy.overlaps(occupancy(meeting(DayOfWeek.MONDAY, "09:00", "10:00")))).isFalse();
+    }
+
+    @Test
+    void missingMeetingTimesGiveEmptyOccupancy() {
+        assertThat(WeeklyOccupancy.of(null)).isSameAs(WeeklyOccupancy.EMPTY);
+        assertThat(WeeklyOccupancy.of(List.of())).isSameAs(WeeklyOccupancy.EMPTY);
+        assertThat(WeeklyOccupancy.EMPTY.overlaps(null)).isFalse();
+    }
+
+    private static WeeklyOccupancy occupancy(MeetingTime... meetingTimes) {
+        return WeeklyOccupancy.of(Arrays.asList(meetingTimes));
+    }
+
+    private static MeetingTime meeting(DayOfWeek dayOfWeek, String startTime, String endTime) {
+        return MeetingTime.builder()
+                .dayOfWeek(dayOfWeek)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.maplewood.infrastructure.cache;
+
+import com.maplewood.domain.enrollment.event.EnrollmentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataChangeBroadcasterTest {
+
+    private static final EnrollmentChangedEvent ENROLLMENT_CHANGED = new EnrollmentChangedEvent(42, 7);
+
+    private InProcessCacheInvalidationBus bus;
+    private ApplicationEventPublisher publisherA;
+    private ApplicationEventPublisher publisherB;
+    private DataChangeBroadcaster nodeA;
+    private DataChangeBroadcaster nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InProcessSharedCacheStore store = new InProcessSharedCacheStore();
+        bus = new InProcessCacheInvalidationBus();
+        publisherA = mock(ApplicationEventPublisher.class);
+        publisherB = mock(ApplicationEventPublisher.class);
+        nodeA = new DataChangeBroadcaster(busProvider(bus), new TwoTierCacheManager(store, bus, "a"), publisherA);
+        nodeB = new DataChangeBroadcaster(busProvider(bus), new TwoTierCacheManager(store, bus, "b"), publisherB);
+    }
+
+    @Test
+    void replaysLocalChangeOnOtherNodeOnly() {
+        nodeA.onEnrollmentChanged(ENROLLMENT_CHANGED);
+
+        verify(publisherB).publishEvent(ENROLLMENT_CHANGED);
+        verify(publisherA, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void doesNotBroadcastReplayedChangeAgain() {
+        // The replayed event reaches node B's own listeners, including its broadcaster
+        doAnswer(invocation -> {
+            nodeB.onEnrollmentChanged(invocation.getArgument(0));
+            return null;
+        }).when(publisherB).publishEvent(any(Object.class));
+
+        nodeA.onEnrollmentChanged(ENROLLMENT_CHANGED);
+
+        verify(publisherB).publishEvent(ENROLLMENT_CHANGED);
+        verify(publisherA, never()).publishEvent(any(Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CacheInvalidationBus> busProvider(CacheInvalidationBus bus) {
+        ObjectProvider<CacheInvalidationBus> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bus);
+        return provider;
+    }
+}
@@ -0,0 +1,84 @@
+package com.maplewood.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two nodes, each with its own TwoTierCacheManager, sharing one in-process L2 and invalidation bus.
+ */
+class TwoTierCacheTest {
+
+    private static final String CACHE = "sections";
+
+    private InProcessSharedCacheStore store;
+    private InProcessCacheInvalidationBus bus;
+    private TwoTierCache nodeA;
+    private TwoTierCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        store = new InProcessSharedCacheStore();
+        bus = new InProcessCacheInvalidationBus();
+        nodeA = cacheOn(new TwoTierCacheManager(store, bus, "a"));
+        nodeB = cacheOn(new TwoTierCacheManager(store, bus, "b"));
+    }
+
+    @Test
+    void localMissIsServedFromSharedTierAndCopiedToLocal() {
+        nodeA.put("1:7", List.of(1, 2));
+
+        assertThat(nodeB.getNativeCache().getIfPresent("1:7")).isNull();
+        assertThat(nodeB.get("1:7", List.class)).isEqualTo(List.of(1, 2));
+        assertThat(nodeB.getNativeCache().getIfPresent("1:7")).isEqualTo(List.of(1, 2));
+    }
+
+    @Test
+    void evictionReachesEveryNodeAndSharedTier() {
+        nodeA.put("1:7", List.of(1, 2));
+        nodeB.get("1:7", List.class);
+
+        nodeA.evict("1:7");
+
+        assertThat(nodeA.getNativeCache().getIfPresent("1:7")).isNull();
+        assertThat(nodeB.getNativeCache().getIfPresent("1:7")).isNull();
+        assertThat(store.get(CACHE, "1:7")).isNull();
+        assertThat(nodeB.get("1:7")).isNull();
+    }
+
+    @Test
+    void evictIfRemovesOnlyMatchingValuesEverywhere() {
+        nodeA.put("1:7", List.of(1, 2));
+        nodeA.put("2:7", List.of(3));
+        nodeB.get("1:7", List.class);
+        nodeB.get("2:7", List.class);
+
+        int evicted = nodeB.evictIf(value -> value instanceof List<?> sections && sections.contains(2));
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(nodeA.get("1:7")).isNull();
+        assertThat(nodeB.get("1:7")).isNull();
+        assertThat(nodeA.getNativeCache().getIfPresent("2:7")).isEqualTo(List.of(3));
+        assertThat(nodeB.getNativeCache().getIfPresent("2:7")).isEqualTo(List.of(3));
+    }
+
+    @Test
+    void ownInvalidationMessagesAreIgnored() {
+        nodeA.put("1:7", List.of(1, 2));
+        nodeB.get("1:7", List.class);
+
+        bus.publish(CacheInvalidationMessage.evict("a", CACHE, "1:7"));
+
+        assertThat(nodeA.getNativeCache().getIfPresent("1:7")).isEqualTo(List.of(1, 2));
+        assertThat(nodeB.getNativeCache().getIfPresent("1:7")).isNull();
+    }
+
+    private static TwoTierCache cacheOn(TwoTierCacheManager cacheManager) {
+        cacheManager.registerCustomCache(CACHE, Caffeine.newBuilder().build());
+        return (TwoTierCache) cacheManager.getCache(CACHE);
+    }
+}
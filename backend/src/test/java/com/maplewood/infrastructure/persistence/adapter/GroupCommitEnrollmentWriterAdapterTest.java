@@ -0,0 +1,203 @@
+package com.maplewood.infrastructure.persistence.adapter;
+
+import com.maplewood.domain.coursesection.exception.CourseSectionFullException;
+import com.maplewood.domain.coursesection.model.CourseSection;
+import com.maplewood.domain.coursesection.model.CourseSection.MeetingTime;
+import com.maplewood.domain.coursesection.model.DayOfWeek;
+import com.maplewood.domain.coursesection.model.WeeklyOccupancy;
+import com.maplewood.domain.coursesection.port.CourseSectionRepositoryPort;
+import com.maplewood.domain.enrollment.event.EnrollmentChangedEvent;
+import com.maplewood.domain.enrollment.exception.EnrollmentEligibilityException;
+import com.maplewood.domain.enrollment.model.EligibilityViolation;
+import com.maplewood.domain.enrollment.model.Enrollment;
+import com.maplewood.domain.enrollment.port.EnrollmentRepositoryPort;
+import com.maplewood.domain.enrollment.service.EnrollmentEligibilityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupCommitEnrollmentWriterAdapterTest {
+
+    private static final int SEMESTER_ID = 7;
+    private static final int STUDENT_ID = 300;
+
+    private EnrollmentRepositoryPort enrollmentRepositoryPort;
+    private CourseSectionRepositoryPort courseSectionRepositoryPort;
+    private ApplicationEventPublisher eventPublisher;
+    private PlatformTransactionManager transactionManager;
+    private GroupCommitEnrollmentWriterAdapter writer;
+
+    /** Enrollments saved so far, as the batch transaction would read them back. */
+    private final List<Enrollment> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        enrollmentRepositoryPort = mock(EnrollmentRepositoryPort.class);
+        courseSectionRepositoryPort = mock(CourseSectionRepositoryPort.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        when(enrollmentRepositoryPort.save(any(Enrollment.class))).thenAnswer(invocation -> {
+            Enrollment enrollment = invocation.getArgument(0);
+            saved.add(enrollment);
+            return enrollment;
+        });
+        when(enrollmentRepositoryPort.findByStudentIdAndSemesterId(anyInt(), anyInt()))
+                .thenAnswer(invocation -> List.copyOf(saved));
+        when(courseSectionRepositoryPort.reserveSeat(anyInt())).thenReturn(true);
+    }
+
+    @AfterEach
+    void stopWriter() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void commitsOnCallerThreadWhenDisabled() throws Exception {
+        writer = writer(false);
+        Enrollment enrollment = enrollment(1, 11);
+
+        CompletableFuture<Enrollment> result = writer.enroll(enrollment);
+
+        assertThat(result).isCompletedWithValue(enrollment);
+        verify(courseSectionRepositoryPort).reserveSeat(11);
+        verify(eventPublisher).publishEvent(new EnrollmentChangedEvent(STUDENT_ID, 1));
+    }
+
+    @Test
+    void fullSectionFailsOnlyItsOwnCommand() throws Exception {
+        when(courseSectionRepositoryPort.reserveSeat(11)).thenReturn(false);
+        writer = writer(true);
+
+        CompletableFuture<Enrollment> full = writer.enroll(enrollment(1, 11));
+        CompletableFuture<Enrollment> free = writer.enroll(enrollment(2, 21));
+
+        assertThat(await(free).getSectionId()).isEqualTo(21);
+        assertThatThrownBy(() -> await(full)).hasCauseInstanceOf(CourseSectionFullException.class);
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(eventPublisher).publishEvent(new EnrollmentChangedEvent(STUDENT_ID, 2));
+        verify(eventPublisher, never()).publishEvent(new EnrollmentChangedEvent(STUDENT_ID, 1));
+    }
+
+    @Test
+    void conflictingCommandOfSameStudentInOneBatchIsRejected() throws Exception {
+        CourseSection first = section(11, 1, "09:00", "10:00");
+        CourseSection second = section(21, 2, "09:30", "10:30");
+        when(courseSectionRepositoryPort.findByCourseIdAndSemesterId(2, SEMESTER_ID)).thenReturn(List.of(second));
+        when(courseSectionRepositoryPort.findByCourseIdInAndSemesterId(anyList(), any()))
+                .thenReturn(List.of(first));
+        writer = writer(true);
+
+        CompletableFuture<Enrollment> accepted = writer.enroll(enrollment(1, 11));
+        CompletableFuture<Enrollment> conflicting = writer.enroll(enrollment(2, 21));
+
+        assertThat(await(accepted).getSectionId()).isEqualTo(11);
+        assertThatThrownBy(() -> await(conflicting))
+                .cause()
+                .isInstanceOf(EnrollmentEligibilityException.class)
+                .extracting(cause -> ((EnrollmentEligibilityException) cause).getType())
+                .isEqualTo(EligibilityViolation.TYPE_CONFLICT);
+        verify(courseSectionRepositoryPort, never()).reserveSeat(21);
+    }
+
+    @Test
+    void failedBatchIsRetriedCommandByCommand() throws Exception {
+        Enrollment duplicate = enrollment(1, 11);
+        doThrow(new DataIntegrityViolationException("UNIQUE")).when(enrollmentRepositoryPort).save(duplicate);
+        writer = writer(true);
+
+        CompletableFuture<Enrollment> rejected = writer.enroll(duplicate);
+        CompletableFuture<Enrollment> accepted = writer.enroll(enrollment(2, 21));
+
+        assertThat(await(accepted).getSectionId()).isEqualTo(21);
+        assertThatThrownBy(() -> await(rejected)).hasCauseInstanceOf(DataIntegrityViolationException.class);
+        // One batch transaction, then one per command
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(eventPublisher).publishEvent(new EnrollmentChangedEvent(STUDENT_ID, 2));
+    }
+
+    @Test
+    void unenrollReleasesSeat() throws Exception {
+        writer = writer(true);
+        Enrollment enrollment = enrollment(1, 11);
+        enrollment.setId(5);
+
+        assertThat(await(writer.unenroll(enrollment))).isSameAs(enrollment);
+        verify(enrollmentRepositoryPort).deleteById(5);
+        verify(courseSectionRepositoryPort).releaseSeat(11);
+    }
+
+    @Test
+    void commandsAfterStopCommitOnCallerThread() throws Exception {
+        writer = writer(true);
+        writer.stop();
+
+        CompletableFuture<Enrollment> result = writer.enroll(enrollment(1, 11));
+
+        assertThat(result).isCompleted();
+        assertThat(result.get().getSectionId()).isEqualTo(11);
+    }
+
+    /**
+     * Batches hold two commands and wait long enough for the second one, so the tests see a single batch.
+     */
+    private GroupCommitEnrollmentWriterAdapter writer(boolean enabled) {
+        GroupCommitEnrollmentWriterAdapter adapter = new GroupCommitEnrollmentWriterAdapter(
+                enrollmentRepositoryPort,
+                courseSectionRepositoryPort,
+                new EnrollmentEligibilityService(),
+                eventPublisher,
+                transactionManager,
+                enabled,
+                2,
+                1_000);
+        adapter.start();
+        return adapter;
+    }
+
+    private static Enrollment await(CompletableFuture<Enrollment> future)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Enrollment enrollment(int courseId, int sectionId) {
+        return new Enrollment(null, STUDENT_ID, courseId, sectionId, SEMESTER_ID, null);
+    }
+
+    private static CourseSection section(int sectionId, int courseId, String startTime, String endTime) {
+        List<MeetingTime> meetingTimes = List.of(new MeetingTime(DayOfWeek.MONDAY, startTime, endTime));
+        CourseSection section = new CourseSection();
+        section.setId(sectionId);
+        section.setCourseId(courseId);
+        section.setSemesterId(SEMESTER_ID);
+        section.setMeetingTimes(meetingTimes);
+        section.setOccupancy(WeeklyOccupancy.of(meetingTimes));
+        return section;
+    }
+}
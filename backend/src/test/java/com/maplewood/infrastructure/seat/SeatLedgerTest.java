@@ -0,0 +1,206 @@
+package com.maplewood.infrastructure.seat;
+
+import com.maplewood.domain.coursesection.event.SectionSeatsChangedEvent;
+import com.maplewood.infrastructure.persistence.repository.CourseSectionRepository;
+import com.maplewood.infrastructure.persistence.repository.SectionSeatCountProjection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatLedgerTest {
+
+    private static final int SECTION_ID = 10;
+
+    private CourseSectionRepository courseSectionRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private SeatLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        courseSectionRepository = mock(CourseSectionRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ledger = ledger(true, "none");
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void refusesToStartWithSharedCache() {
+        assertThatThrownBy(() -> ledger(true, "in-process"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ledger(false, "in-process").isEnabled()).isFalse();
+    }
+
+    @Test
+    void reservesUntilCapacityThenRejects() {
+        seatCount(SECTION_ID, 2, 1);
+
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isTrue();
+        assertThat(ledger.reserve(SECTION_ID)).isTrue();
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isFalse();
+        assertThat(ledger.reserve(SECTION_ID)).isFalse();
+
+        ledger.release(SECTION_ID);
+        assertThat(ledger.reserve(SECTION_ID)).isTrue();
+    }
+
+    @Test
+    void unknownSectionHasNoSeat() {
+        when(courseSectionRepository.findSeatCount(SECTION_ID)).thenReturn(Optional.empty());
+
+        assertThat(ledger.reserve(SECTION_ID)).isFalse();
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isFalse();
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedCapacity() throws Exception {
+        seatCount(SECTION_ID, 50, 0);
+        Callable<Integer> reserveRepeatedly = () -> {
+            int reserved = 0;
+            for (int i = 0; i < 100; i++) {
+                if (ledger.reserve(SECTION_ID)) {
+                    reserved++;
+                }
+            }
+            return reserved;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            int reserved = 0;
+            for (Future<Integer> result : executor.invokeAll(List.of(
+                    reserveRepeatedly, reserveRepeatedly, reserveRepeatedly, reserveRepeatedly,
+                    reserveRepeatedly, reserveRepeatedly, reserveRepeatedly, reserveRepeatedly))) {
+                reserved += result.get();
+            }
+            assertThat(reserved).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rolledBackReservationGivesSeatBack() {
+        seatCount(SECTION_ID, 1, 0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(ledger.reserve(SECTION_ID)).isTrue();
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isFalse();
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isTrue();
+    }
+
+    @Test
+    void committedReservationKeepsSeat() {
+        seatCount(SECTION_ID, 1, 0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(ledger.reserve(SECTION_ID)).isTrue();
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isFalse();
+    }
+
+    @Test
+    void flushWritesChangedCountsAndPublishesEvent() {
+        seatCount(SECTION_ID, 5, 2);
+        ledger.reserve(SECTION_ID);
+
+        ledger.flush();
+
+        verify(courseSectionRepository).updateEnrolledCount(SECTION_ID, 3);
+        verify(eventPublisher).publishEvent(new SectionSeatsChangedEvent(List.of(SECTION_ID)));
+
+        ledger.flush();
+        verify(courseSectionRepository).updateEnrolledCount(anyInt(), anyInt());
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        seatCount(SECTION_ID, 5, 2);
+        ledger.reserve(SECTION_ID);
+        when(courseSectionRepository.updateEnrolledCount(SECTION_ID, 3))
+                .thenThrow(new IllegalStateException("database is locked"))
+                .thenReturn(1);
+
+        ledger.flush();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        ledger.flush();
+        verify(eventPublisher).publishEvent(new SectionSeatsChangedEvent(List.of(SECTION_ID)));
+    }
+
+    @Test
+    void seedRepairsAndLoadsAllCounts() {
+        when(courseSectionRepository.findAllSeatCounts()).thenReturn(List.of(projection(SECTION_ID, 1, 1)));
+
+        ledger.seed();
+
+        verify(courseSectionRepository).repairEnrolledCounts();
+        assertThat(ledger.hasAvailableSeat(SECTION_ID)).isFalse();
+        verify(courseSectionRepository, never()).findSeatCount(eq(SECTION_ID));
+    }
+
+    private SeatLedger ledger(boolean enabled, String sharedCacheProvider) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new SeatLedger(courseSectionRepository, eventPublisher, transactionManager, enabled, sharedCacheProvider);
+    }
+
+    private void seatCount(int sectionId, int capacity, int enrolled) {
+        when(courseSectionRepository.findSeatCount(sectionId)).thenReturn(Optional.of(projection(sectionId, capacity, enrolled)));
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static SectionSeatCountProjection projection(int sectionId, int capacity, int enrolled) {
+        return new SectionSeatCountProjection() {
+            @Override
+            public Integer getSectionId() {
+                return sectionId;
+            }
+
+            @Override
+            public Integer getCapacity() {
+                return capacity;
+            }
+
+            @Override
+            public Integer getEnrolledCount() {
+                return enrolled;
+            }
+        };
+    }
+}
@@ -9,7 +9,7 @@ export interface Enrollment {
 }
 
 export interface EnrollmentAvailabilityError {
-  type: 'prerequisite' | 'conflict' | 'max_courses' | 'grade_level' | 'other';
+  type: 'prerequisite' | 'conflict' | 'max_courses' | 'grade_level' | 'section_full' | 'other';
   message: string;
   prerequisite?: CoursePrerequisite;
 }